@@ -0,0 +1,83 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.AlertsResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.GeocodingResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.PointsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Decode and project recorded upstream payloads the way {@link WeatherService} does on a cache miss:
+ * bytes are bound into the {@link UpstreamPayloads} records by an {@link ObjectMapper} configured like the
+ * one behind {@code RestTemplate}, then projected by the same static methods the tools use.
+ * Run with {@code mvn -Pjmh test-compile exec:exec}; {@code -prof gc} reports the allocation rate next to throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpstreamDecodeBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] pointsPayload;
+    private byte[] forecastPayload;
+    private byte[] alertsPayload;
+    private byte[] geocodingPayload;
+
+    @Setup
+    public void loadPayloads() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        pointsPayload = payload("nws-points.json");
+        forecastPayload = payload("nws-forecast.json");
+        alertsPayload = payload("nws-alerts.json");
+        geocodingPayload = payload("open-meteo-geocoding.json");
+    }
+
+    @Benchmark
+    public GridPoint points() throws IOException {
+        return WeatherService.projectGridPoint(objectMapper.readValue(pointsPayload, PointsResponse.class));
+    }
+
+    @Benchmark
+    public ForecastSnapshot forecast() throws IOException {
+        return ForecastSnapshot.fromDocument(objectMapper.readValue(forecastPayload, ForecastResponse.class));
+    }
+
+    @Benchmark
+    public List<WeatherAlert> alerts() throws IOException {
+        return WeatherService.projectAlerts(objectMapper.readValue(alertsPayload, AlertsResponse.class));
+    }
+
+    @Benchmark
+    public Optional<GeocodedCity> geocoding() throws IOException {
+        return WeatherService.projectFirstMatch(objectMapper.readValue(geocodingPayload, GeocodingResponse.class));
+    }
+
+    private static byte[] payload(String name) throws IOException {
+        try (InputStream in = UpstreamDecodeBenchmark.class.getResourceAsStream("/payloads/" + name)) {
+            if (in == null) {
+                throw new IOException("Missing recorded payload " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
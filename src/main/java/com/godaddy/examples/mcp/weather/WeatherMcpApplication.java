@@ -1,14 +1,27 @@
 package com.godaddy.examples.mcp.weather;
 
+import java.util.Arrays;
 import java.util.List;
 
+import com.godaddy.examples.mcp.weather.capture.TrafficRecorder;
+import com.godaddy.examples.mcp.weather.config.ToolMetrics;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherResilienceProperties;
+import com.godaddy.examples.mcp.weather.http.HttpResponseCacheInterceptor;
+import com.godaddy.examples.mcp.weather.http.UpstreamGuardInterceptor;
+import com.godaddy.examples.mcp.weather.http.UpstreamMetrics;
 import com.godaddy.examples.mcp.weather.services.WeatherService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.ai.support.ToolCallbacks;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.web.client.RestTemplate;
 
@@ -16,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 
 @SpringBootApplication
 @Configuration
+@ConfigurationPropertiesScan
 @EnableRetry
 @Slf4j
 public class WeatherMcpApplication {
@@ -25,12 +39,51 @@ public class WeatherMcpApplication {
     }
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpResponseCacheInterceptor httpResponseCacheInterceptor(WeatherCacheProperties cacheProperties) {
+        return new HttpResponseCacheInterceptor(cacheProperties.getHttpResponses());
     }
 
     @Bean
-    public List<ToolCallback> weatherTools(WeatherService weatherService) {
-        return List.of(ToolCallbacks.from(weatherService));
+    public UpstreamMetrics upstreamMetrics(MeterRegistry meterRegistry) {
+        return new UpstreamMetrics(meterRegistry);
+    }
+
+    @Bean
+    public ToolMetrics toolMetrics(MeterRegistry meterRegistry) {
+        return new ToolMetrics(meterRegistry);
+    }
+
+    @Bean
+    public UpstreamGuardInterceptor upstreamGuardInterceptor(WeatherResilienceProperties resilienceProperties,
+                                                             UpstreamMetrics upstreamMetrics) {
+        return new UpstreamGuardInterceptor(resilienceProperties, upstreamMetrics);
+    }
+
+    /**
+     * Cached responses are answered before the upstream guard, so they never count against a breaker or bulkhead.
+     */
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory upstreamRequestFactory,
+                                     HttpResponseCacheInterceptor httpResponseCacheInterceptor,
+                                     UpstreamGuardInterceptor upstreamGuardInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(upstreamRequestFactory);
+        restTemplate.getInterceptors().add(httpResponseCacheInterceptor);
+        restTemplate.getInterceptors().add(upstreamGuardInterceptor);
+        return restTemplate;
+    }
+
+    /**
+     * Blocking tool callbacks; replaced by the async specifications in ReactiveToolConfiguration
+     * when {@code weather.reactive.enabled} is set. Calls are recorded when {@code weather.capture.enabled} is set.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "weather.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public List<ToolCallback> weatherTools(WeatherService weatherService, ToolMetrics toolMetrics,
+                                           ObjectProvider<TrafficRecorder> trafficRecorder) {
+        TrafficRecorder recorder = trafficRecorder.getIfAvailable();
+        return Arrays.stream(ToolCallbacks.from(weatherService))
+            .map(toolMetrics::metered)
+            .map(callback -> recorder == null ? callback : recorder.recorded(callback))
+            .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.godaddy.examples.mcp.weather.cache;
+
+/**
+ * Point-in-time snapshot of an {@link ExpiringCache}'s counters.
+ */
+public record CacheStats(String name, int size, int maxSize, long hits, long misses, long evictions) {
+
+    /**
+     * Fraction of lookups served from the cache, or 0 when nothing has been looked up yet.
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,145 @@
+package com.godaddy.examples.mcp.weather.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache with a time-to-live per entry.
+ * Once {@code maxSize} is reached the least recently used entry is evicted.
+ * Expired entries are dropped lazily when they are looked up.
+ */
+public class ExpiringCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final Duration defaultTtl;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ExpiringCache(String name, int maxSize, Duration defaultTtl) {
+        this(name, maxSize, defaultTtl, Clock.systemUTC());
+    }
+
+    public ExpiringCache(String name, int maxSize, Duration defaultTtl, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive for cache " + name);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.defaultTtl = defaultTtl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Look up a live entry, counting the lookup as a hit or a miss.
+     */
+    public Optional<V> get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.isExpired(clock.instant())) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(entry.value());
+        }
+    }
+
+    /**
+     * Return the cached value for {@code key}, loading and storing it with the default TTL on a miss.
+     * The loader runs outside the cache lock; if it throws, nothing is cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return get(key, loader, value -> defaultTtl);
+    }
+
+    /**
+     * Like {@link #get(Object, Function)}, but lets the loaded value decide its own TTL,
+     * e.g. to keep negative results for less time than positive ones.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader, Function<? super V, Duration> ttlPolicy) {
+        Optional<V> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        V value = loader.apply(key);
+        put(key, value, ttlPolicy.apply(value));
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtl);
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot cache a null value in cache " + name);
+        }
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+            evictOverflow();
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, size(), maxSize, hits.get(), misses.get(), evictions.get());
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.godaddy.examples.mcp.weather.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one execution whose result, or failure,
+ * is handed to every caller that arrived while it was in flight.
+ * Nothing is remembered once the call completes; pair it with a cache for that.
+ */
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    /**
+     * Run {@code call} unless a call for {@code key} is already in flight, in which case wait for
+     * and return its result. Callers must use each key for a single result type.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String key, Supplier<V> call) {
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            collapsed.incrementAndGet();
+            return (V) await(existing);
+        }
+
+        executions.incrementAndGet();
+        try {
+            V result = call.get();
+            leader.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(executions.get(), collapsed.get(), inFlight.size());
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Calls that went upstream, callers that shared an in-flight call instead, and calls running now.
+     */
+    public record Stats(long executions, long collapsed, int inFlight) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.godaddy.examples.mcp.weather.capture;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+/**
+ * Records each REST request it sees through {@link TrafficRecorder}: method, path, query string and JSON body,
+ * stamped with the time it arrived. Headers and the client address are never recorded.
+ */
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private final TrafficRecorder recorder;
+
+    public TrafficCaptureFilter(TrafficRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long arrivedAt = recorder.now();
+        // The body can only be read once, so it is kept as the controller reads it and recorded afterwards
+        ContentCachingRequestWrapper cachingRequest = new ContentCachingRequestWrapper(request);
+        try {
+            chain.doFilter(cachingRequest, response);
+        } finally {
+            String query = request.getQueryString();
+            String path = request.getRequestURI() + (query == null ? "" : "?" + query);
+            recorder.recordRest(arrivedAt, request.getMethod(), path, cachingRequest.getContentAsByteArray());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.godaddy.examples.mcp.weather.capture;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One recorded call: an MCP tool invocation with its arguments, or a REST request with its path, query and
+ * JSON body. {@code t} is the arrival time in epoch milliseconds. Nothing identifies the caller.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TrafficEvent(long t, String tool, JsonNode args, String method, String path, JsonNode body) {
+
+    public static TrafficEvent ofTool(long t, String tool, JsonNode args) {
+        return new TrafficEvent(t, tool, args, null, null, null);
+    }
+
+    public static TrafficEvent ofRest(long t, String method, String path, JsonNode body) {
+        return new TrafficEvent(t, null, null, method, path, body);
+    }
+
+    @JsonIgnore
+    public boolean isToolCall() {
+        return tool != null;
+    }
+}
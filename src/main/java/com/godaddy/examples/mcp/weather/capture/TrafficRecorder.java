@@ -0,0 +1,285 @@
+package com.godaddy.examples.mcp.weather.capture;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.godaddy.examples.mcp.weather.config.WeatherCaptureProperties;
+import com.godaddy.examples.mcp.weather.services.WeatherService;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.util.UriUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes {@link TrafficEvent}s to {@code weather.capture.file}, one JSON object per line, for the
+ * {@code TrafficReplayer} in the test sources. Callers only enqueue; a single writer thread does the I/O, and events that
+ * arrive while the queue is full are dropped and counted instead of holding up the request.
+ * <p>
+ * Only the tool name or request path, the arguments or body and the arrival time are kept, scrubbed first:
+ * <ul>
+ *   <li>Latitudes and longitudes are rounded to {@code weather.capture.coordinate-decimals} places wherever
+ *   they appear.</li>
+ *   <li>City names, in {@code city} and {@code cityName} arguments and in {@code /weather/{city}} paths, are
+ *   kept only when they are one of the known cities. Any other name is replaced by a {@code city-} token hashed
+ *   with a salt that lives only as long as this recorder, so repeats of a name stay recognisable within one
+ *   recording but the name cannot be recovered from it.</li>
+ * </ul>
+ */
+@Slf4j
+public class TrafficRecorder implements DisposableBean {
+
+    private static final TrafficEvent END = TrafficEvent.ofRest(0, null, null, null);
+    private static final Pattern CITY_PATH = Pattern.compile("^(/weather/)([^/?]+)(.*)$");
+    private static final String BATCH_SEGMENT = "batch";
+    private static final int CITY_TOKEN_BYTES = 6;
+
+    private final ObjectMapper objectMapper;
+    private final int coordinateDecimals;
+    private final Set<String> knownCities;
+    private final byte[] citySalt = new byte[16];
+    private final Clock clock;
+    private final BlockingQueue<TrafficEvent> queue;
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+
+    /**
+     * @param knownCities city names that are written as they are; any other city name is replaced by a token
+     */
+    public TrafficRecorder(WeatherCaptureProperties properties, ObjectMapper objectMapper,
+                           Collection<String> knownCities) throws IOException {
+        this(properties, objectMapper, knownCities, Clock.systemUTC());
+    }
+
+    TrafficRecorder(WeatherCaptureProperties properties, ObjectMapper objectMapper, Collection<String> knownCities,
+                    Clock clock) throws IOException {
+        this.objectMapper = objectMapper;
+        this.coordinateDecimals = properties.getCoordinateDecimals();
+        this.knownCities = knownCities.stream().map(WeatherService::normalizeCityName).collect(Collectors.toSet());
+        new SecureRandom().nextBytes(citySalt);
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        Writer out = open(Path.of(properties.getFile()));
+        this.writer = Thread.ofPlatform().name("traffic-capture").daemon().start(() -> drain(out));
+        log.info("Recording traffic to {}", Path.of(properties.getFile()).toAbsolutePath());
+    }
+
+    /**
+     * {@code callback} with every invocation recorded before it runs.
+     */
+    public ToolCallback recorded(ToolCallback callback) {
+        return new RecordedToolCallback(callback);
+    }
+
+    /**
+     * Record a REST request that arrived at {@code arrivedAt}; {@code body} is ignored unless it is JSON.
+     */
+    public void recordRest(long arrivedAt, String method, String pathAndQuery, byte[] body) {
+        enqueue(TrafficEvent.ofRest(arrivedAt, method, anonymizedPath(pathAndQuery), anonymized(body)));
+    }
+
+    public long now() {
+        return clock.millis();
+    }
+
+    public long recordedEvents() {
+        return recorded.get();
+    }
+
+    public long droppedEvents() {
+        return dropped.get();
+    }
+
+    /**
+     * Writes out every queued event and closes the file.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!queue.offer(END, 10, TimeUnit.SECONDS)) {
+            writer.interrupt();
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        log.info("Recorded {} events, dropped {}", recorded.get(), dropped.get());
+    }
+
+    private void enqueue(TrafficEvent event) {
+        if (queue.offer(event)) {
+            recorded.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drain(Writer out) {
+        try (out) {
+            while (true) {
+                TrafficEvent event = queue.poll(1, TimeUnit.SECONDS);
+                if (event == null) {
+                    out.flush();
+                    continue;
+                }
+                if (event == END) {
+                    return;
+                }
+                out.write(objectMapper.writeValueAsString(event));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            log.warn("Traffic capture stopped: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private JsonNode anonymized(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return scrub(objectMapper.readTree(json));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private JsonNode anonymized(byte[] json) {
+        return json == null || json.length == 0 ? null : anonymized(new String(json, StandardCharsets.UTF_8));
+    }
+
+    private String anonymizedPath(String pathAndQuery) {
+        if (pathAndQuery == null) {
+            return null;
+        }
+        Matcher matcher = CITY_PATH.matcher(pathAndQuery);
+        if (!matcher.matches() || BATCH_SEGMENT.equals(matcher.group(2))) {
+            return pathAndQuery;
+        }
+        String city = UriUtils.decode(matcher.group(2), StandardCharsets.UTF_8);
+        String kept = anonymizedCity(city);
+        return kept.equals(city) ? pathAndQuery : matcher.group(1) + kept + matcher.group(3);
+    }
+
+    private JsonNode scrub(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            for (Iterator<Map.Entry<String, JsonNode>> fields = object.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if (value.isNumber() && isCoordinate(field.getKey())) {
+                    field.setValue(object.numberNode(
+                        value.decimalValue().setScale(coordinateDecimals, RoundingMode.HALF_UP).doubleValue()));
+                } else if (value.isTextual() && isCity(field.getKey())) {
+                    field.setValue(object.textNode(anonymizedCity(value.asText())));
+                } else {
+                    scrub(value);
+                }
+            }
+        } else if (node != null && node.isArray()) {
+            node.forEach(this::scrub);
+        }
+        return node;
+    }
+
+    /**
+     * {@code city} itself if it is a known city, otherwise a salted hash of its normalized form.
+     */
+    private String anonymizedCity(String city) {
+        String normalized = WeatherService.normalizeCityName(city);
+        if (knownCities.contains(normalized)) {
+            return city;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(citySalt);
+            byte[] hash = digest.digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return "city-" + HexFormat.of().formatHex(hash, 0, CITY_TOKEN_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static boolean isCoordinate(String field) {
+        return "latitude".equals(field) || "longitude".equals(field);
+    }
+
+    private static boolean isCity(String field) {
+        return "city".equals(field) || "cityName".equals(field);
+    }
+
+    private static Writer open(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        OutputStream out = Files.newOutputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            out = new GZIPOutputStream(out, 64 * 1024);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private final class RecordedToolCallback implements ToolCallback {
+
+        private final ToolCallback delegate;
+
+        RecordedToolCallback(ToolCallback delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ToolDefinition getToolDefinition() {
+            return delegate.getToolDefinition();
+        }
+
+        @Override
+        public ToolMetadata getToolMetadata() {
+            return delegate.getToolMetadata();
+        }
+
+        @Override
+        public String call(String toolInput) {
+            record(toolInput);
+            return delegate.call(toolInput);
+        }
+
+        @Override
+        public String call(String toolInput, ToolContext toolContext) {
+            record(toolInput);
+            return delegate.call(toolInput, toolContext);
+        }
+
+        private void record(String toolInput) {
+            enqueue(TrafficEvent.ofTool(clock.millis(), getToolDefinition().name(), anonymized(toolInput)));
+        }
+    }
+}
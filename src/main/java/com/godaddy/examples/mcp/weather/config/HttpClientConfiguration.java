@@ -0,0 +1,94 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.net.http.HttpClient;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbound HTTP client for the upstream weather APIs. By default a pooled Apache HttpClient keeps
+ * TLS connections alive and reuses them across requests; {@code weather.http.http2-enabled}
+ * switches to the JDK client over HTTP/2.
+ */
+@Configuration
+@Slf4j
+public class HttpClientConfiguration {
+
+    private static final String HTTP2_ENABLED = "http2-enabled";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "weather.http", name = HTTP2_ENABLED, havingValue = "false", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager upstreamConnectionManager(WeatherHttpClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnectionsTotal())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerHost())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                .setTimeToLive(TimeValue.ofMilliseconds(properties.getConnectionTimeToLive().toMillis()))
+                .build())
+            .build();
+        properties.getHostMaxConnections().forEach((host, max) ->
+            connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("https", host, 443), null, true), max));
+        return connectionManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "weather.http", name = HTTP2_ENABLED, havingValue = "false", matchIfMissing = true)
+    public ClientHttpRequestFactory pooledUpstreamRequestFactory(PoolingHttpClientConnectionManager connectionManager,
+                                                                 WeatherHttpClientProperties properties) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeout().toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleTimeout().toMillis()))
+            .build();
+        log.info("Upstream HTTP client: pooled HTTP/1.1, {} total / {} per host connections",
+            properties.getMaxConnectionsTotal(), properties.getMaxConnectionsPerHost());
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "weather.http", name = HTTP2_ENABLED, havingValue = "true")
+    public ClientHttpRequestFactory http2UpstreamRequestFactory(WeatherHttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.getConnectTimeout())
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        log.info("Upstream HTTP client: JDK HTTP/2");
+        return requestFactory;
+    }
+
+    /**
+     * Publishes leased, available, pending and max connection gauges for the upstream pool.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "weather.http", name = HTTP2_ENABLED, havingValue = "false", matchIfMissing = true)
+    public MeterBinder upstreamConnectionPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "upstream");
+    }
+}
@@ -0,0 +1,181 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import com.godaddy.examples.mcp.weather.http.UpstreamMetrics;
+import com.godaddy.examples.mcp.weather.services.ReactiveWeatherService;
+import com.godaddy.examples.mcp.weather.services.WeatherService;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.netty.channel.ChannelOption;
+import org.springframework.ai.support.ToolCallbacks;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Serves the MCP tools from {@link ReactiveWeatherService} when {@code weather.reactive.enabled} is set.
+ * Tool names, descriptions and input schemas still come from the {@code @Tool} methods on
+ * {@link WeatherService}; only the execution moves onto {@link WebClient}, registered as async tool
+ * specifications so the ASYNC MCP server never parks a thread on an upstream call.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "weather.reactive", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReactiveToolConfiguration {
+
+    /**
+     * Forecast documents run well past WebClient's 256 KiB default buffer.
+     */
+    private static final int MAX_IN_MEMORY_BYTES = 2 * 1024 * 1024;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamReactiveConnectionProvider(WeatherHttpClientProperties properties) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("upstream")
+            .maxConnections(properties.getMaxConnectionsPerHost())
+            .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+            .maxIdleTime(properties.getIdleTimeout())
+            .maxLifeTime(properties.getConnectionTimeToLive())
+            .evictInBackground(properties.getIdleTimeout())
+            .metrics(true);
+        properties.getHostMaxConnections().forEach((host, max) ->
+            builder.forRemoteHost(InetSocketAddress.createUnresolved(host, 443), spec -> spec.maxConnections(max)));
+        return builder.build();
+    }
+
+    @Bean
+    public WebClient upstreamWebClient(WebClient.Builder webClientBuilder, ConnectionProvider upstreamReactiveConnectionProvider,
+                                       WeatherHttpClientProperties properties, UpstreamMetrics upstreamMetrics) {
+        HttpClient httpClient = HttpClient.create(upstreamReactiveConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+            .responseTimeout(properties.getReadTimeout());
+        return webClientBuilder
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_BYTES))
+            .filter(upstreamMetrics.exchangeFilter())
+            .build();
+    }
+
+    @Bean
+    public ReactiveWeatherService reactiveWeatherService(WebClient upstreamWebClient, WeatherCacheProperties cacheProperties,
+                                                         WeatherBatchProperties batchProperties,
+                                                         WeatherUpstreamProperties upstreamProperties) {
+        return new ReactiveWeatherService(upstreamWebClient, cacheProperties, batchProperties, upstreamProperties);
+    }
+
+    @Bean
+    public List<McpServerFeatures.AsyncToolSpecification> reactiveWeatherTools(WeatherService weatherService,
+                                                                               ReactiveWeatherService reactiveWeatherService,
+                                                                               ObjectMapper objectMapper,
+                                                                               ToolMetrics toolMetrics) {
+        List<McpServerFeatures.AsyncToolSpecification> tools =
+            asyncToolSpecifications(weatherService, reactiveWeatherService, objectMapper, toolMetrics);
+        log.info("Registered {} reactive MCP tools", tools.size());
+        return tools;
+    }
+
+    /**
+     * Pair every {@code @Tool} method on {@code toolSource} with the method of the same name and parameter
+     * types on {@code reactiveTarget}, which must return a {@link Mono}. Fails fast at startup when a tool
+     * has no reactive counterpart. Every call is timed by {@code toolMetrics}.
+     */
+    static List<McpServerFeatures.AsyncToolSpecification> asyncToolSpecifications(Object toolSource, Object reactiveTarget,
+                                                                                  ObjectMapper objectMapper,
+                                                                                  ToolMetrics toolMetrics) {
+        Map<String, ToolDefinition> definitions = Arrays.stream(ToolCallbacks.from(toolSource))
+            .map(ToolCallback::getToolDefinition)
+            .collect(Collectors.toMap(ToolDefinition::name, Function.identity()));
+
+        List<McpServerFeatures.AsyncToolSpecification> specifications = new ArrayList<>();
+        for (Method toolMethod : AopUtils.getTargetClass(toolSource).getMethods()) {
+            Tool tool = AnnotationUtils.findAnnotation(toolMethod, Tool.class);
+            if (tool == null) {
+                continue;
+            }
+            String name = tool.name().isEmpty() ? toolMethod.getName() : tool.name();
+            Method reactiveMethod = ReflectionUtils.findMethod(reactiveTarget.getClass(),
+                toolMethod.getName(), toolMethod.getParameterTypes());
+            if (reactiveMethod == null || !Mono.class.isAssignableFrom(reactiveMethod.getReturnType())) {
+                throw new IllegalStateException("No reactive implementation for tool " + name);
+            }
+
+            ToolDefinition definition = definitions.get(name);
+            McpSchema.Tool schema = new McpSchema.Tool(definition.name(), definition.description(), definition.inputSchema());
+            Parameter[] parameters = toolMethod.getParameters();
+            specifications.add(new McpServerFeatures.AsyncToolSpecification(schema, (exchange, arguments) ->
+                toolMetrics.metered(name, invoke(name, reactiveMethod, reactiveTarget, parameters, arguments, objectMapper))
+                    .map(result -> toCallToolResult(result, objectMapper))
+                    .onErrorResume(e -> Mono.just(new McpSchema.CallToolResult(
+                        List.of(new McpSchema.TextContent(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName())),
+                        true)))));
+        }
+        return specifications;
+    }
+
+    /**
+     * Arguments are looked up by the same parameter names the schema generator published and converted to the
+     * full generic parameter type, so list arguments arrive as lists of records rather than of maps. A missing
+     * argument is an {@code INVALID_ARGUMENTS} error unless its {@code @ToolParam} says it is optional.
+     */
+    private static Mono<?> invoke(String tool, Method method, Object target, Parameter[] parameters,
+                                  Map<String, Object> arguments, ObjectMapper objectMapper) {
+        return Mono.defer(() -> {
+            Object[] values = new Object[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                Object argument = arguments == null ? null : arguments.get(parameters[i].getName());
+                if (argument == null && isRequired(parameters[i])) {
+                    return Mono.error(new WeatherServerException("Missing required argument: " + parameters[i].getName(),
+                        "INVALID_ARGUMENTS", tool));
+                }
+                values[i] = objectMapper.convertValue(argument,
+                    objectMapper.getTypeFactory().constructType(parameters[i].getParameterizedType()));
+            }
+            try {
+                return (Mono<?>) method.invoke(target, values);
+            } catch (InvocationTargetException e) {
+                return Mono.error(e.getCause());
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                return Mono.error(e);
+            }
+        });
+    }
+
+    private static boolean isRequired(Parameter parameter) {
+        ToolParam toolParam = parameter.getAnnotation(ToolParam.class);
+        return parameter.getType().isPrimitive() || toolParam == null || toolParam.required();
+    }
+
+    private static McpSchema.CallToolResult toCallToolResult(Object result, ObjectMapper objectMapper) {
+        try {
+            return new McpSchema.CallToolResult(List.of(new McpSchema.TextContent(objectMapper.writeValueAsString(result))), false);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize tool result", e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@value #TIMER} timer per MCP tool, tagged with the tool name, {@code SUCCESS} or {@code ERROR}, and the
+ * {@link WeatherServerException#getErrorCode() error code} of a failed call ({@code none} on success).
+ * The timer count is the call count; p50/p99/p999 and a percentile histogram are published with it.
+ */
+public class ToolMetrics {
+
+    public static final String TIMER = "weather.tool.calls";
+
+    private final MeterRegistry registry;
+
+    public ToolMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * {@code callback} with every call timed.
+     */
+    public ToolCallback metered(ToolCallback callback) {
+        return new MeteredToolCallback(callback);
+    }
+
+    /**
+     * {@code call} timed from subscription until it completes or fails.
+     */
+    public <T> Mono<T> metered(String tool, Mono<T> call) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return call
+                .doOnSuccess(result -> record(tool, null, System.nanoTime() - started))
+                .doOnError(e -> record(tool, e, System.nanoTime() - started));
+        });
+    }
+
+    void record(String tool, Throwable failure, long nanos) {
+        Timer.builder(TIMER)
+            .description("MCP tool calls")
+            .tag("tool", tool)
+            .tag("outcome", failure == null ? "SUCCESS" : "ERROR")
+            .tag("error", failure == null ? "none" : errorCode(failure))
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The code of the outermost {@link WeatherServerException}, which is the one the tool reported, or the
+     * exception type when there is none.
+     */
+    static String errorCode(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WeatherServerException weatherServerException) {
+                return weatherServerException.getErrorCode();
+            }
+        }
+        return failure.getClass().getSimpleName();
+    }
+
+    private final class MeteredToolCallback implements ToolCallback {
+
+        private final ToolCallback delegate;
+
+        MeteredToolCallback(ToolCallback delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ToolDefinition getToolDefinition() {
+            return delegate.getToolDefinition();
+        }
+
+        @Override
+        public ToolMetadata getToolMetadata() {
+            return delegate.getToolMetadata();
+        }
+
+        @Override
+        public String call(String toolInput) {
+            return timed(() -> delegate.call(toolInput));
+        }
+
+        @Override
+        public String call(String toolInput, ToolContext toolContext) {
+            return timed(() -> delegate.call(toolInput, toolContext));
+        }
+
+        private String timed(Supplier<String> call) {
+            long started = System.nanoTime();
+            try {
+                String result = call.get();
+                record(getToolDefinition().name(), null, System.nanoTime() - started);
+                return result;
+            } catch (RuntimeException e) {
+                record(getToolDefinition().name(), e, System.nanoTime() - started);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.capture.TrafficCaptureFilter;
+import com.godaddy.examples.mcp.weather.capture.TrafficRecorder;
+import com.godaddy.examples.mcp.weather.services.WeatherService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Records MCP tool calls and REST requests to a file when {@code weather.capture.enabled} is set.
+ * Tool callbacks are wrapped where they are built in {@code WeatherMcpApplication}; REST requests to the
+ * weather controller are recorded by a servlet filter. Replay the file with {@code TrafficReplayer} from the
+ * test sources.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "weather.capture", name = "enabled", havingValue = "true")
+public class TrafficCaptureConfiguration {
+
+    @Bean
+    public TrafficRecorder trafficRecorder(WeatherCaptureProperties properties, ObjectMapper objectMapper,
+                                           WeatherService weatherService) throws IOException {
+        return new TrafficRecorder(properties, objectMapper, weatherService.getSupportedCities());
+    }
+
+    @Bean
+    public FilterRegistrationBean<TrafficCaptureFilter> trafficCaptureFilter(TrafficRecorder trafficRecorder) {
+        FilterRegistrationBean<TrafficCaptureFilter> registration =
+            new FilterRegistrationBean<>(new TrafficCaptureFilter(trafficRecorder));
+        registration.addUrlPatterns("/weather/*", "/cities");
+        return registration;
+    }
+}
@@ -0,0 +1,36 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Background ingestion of the national NWS active alerts feed into a local spatial index, bound from
+ * {@code weather.alert-index}.
+ */
+@Data
+@ConfigurationProperties(prefix = "weather.alert-index")
+public class WeatherAlertIndexProperties {
+
+    /**
+     * Ingest the national feed and answer alert lookups from it; when off, every lookup calls NWS per point.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between the end of one ingest and the start of the next.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    /**
+     * Lookups fall back to the per-point NWS call when the last complete ingest is older than this.
+     */
+    private Duration maxAge = Duration.ofMinutes(5);
+
+    /**
+     * Zone polygons fetched concurrently during an ingest.
+     */
+    private int zoneFetchParallelism = 4;
+}
@@ -0,0 +1,23 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Limits for the batch tools and {@code POST /weather/batch}, bound from {@code weather.batch}.
+ */
+@Data
+@ConfigurationProperties(prefix = "weather.batch")
+public class WeatherBatchProperties {
+
+    /**
+     * Largest number of locations accepted in one batch.
+     */
+    private int maxLocations = 50;
+
+    /**
+     * Upstream lookups of one batch that may run at the same time.
+     */
+    private int parallelism = 8;
+}
@@ -0,0 +1,98 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Size limits and time-to-live settings for the in-memory upstream caches,
+ * bound from the {@code weather.cache} section of {@code application.yaml}.
+ */
+@Data
+@ConfigurationProperties(prefix = "weather.cache")
+public class WeatherCacheProperties {
+
+    /**
+     * NWS {@code /points} lookups, keyed by the 4-decimal coordinate pair.
+     */
+    private Spec gridPoints = new Spec(10_000, Duration.ofHours(24), Duration.ZERO);
+
+    /**
+     * Open-Meteo geocoding results, keyed by the case- and whitespace-folded city name.
+     * Unknown cities are remembered for {@code negative-ttl} so bad names cannot flood the geocoder.
+     */
+    private Spec geocoding = new Spec(5_000, Duration.ofDays(7), Duration.ofMinutes(10));
+
+    /**
+     * Forecast snapshots per NWS grid, shared by every forecast-based tool. Entries outlive their
+     * upstream freshness for {@code ttl} so they can be revalidated with a conditional GET instead of
+     * re-downloaded, and count as fresh for at least {@code min-fresh}. Past that they are served stale,
+     * marked as such, while a background revalidation runs or while upstream is failing.
+     */
+    private Spec forecasts = new Spec(2_000, Duration.ofHours(6), Duration.ZERO, Duration.ofMinutes(5),
+        Duration.ofMinutes(10), Duration.ofHours(2));
+
+    /**
+     * Projected NWS active alerts per point, revalidated the same way as forecasts.
+     */
+    private Spec alerts = new Spec(5_000, Duration.ofHours(1), Duration.ZERO);
+
+    /**
+     * NWS zone polygons used to place zone-based alerts in the national alert index, keyed by zone URL.
+     * Sized above the roughly 12,000 forecast, county, fire weather and marine zones NWS publishes, so a
+     * nationwide alert day never evicts one. Zones that no longer exist or came back without a polygon are
+     * remembered for {@code negative-ttl}.
+     */
+    private Spec zones = new Spec(20_000, Duration.ofDays(7), Duration.ofHours(1));
+
+    /**
+     * Raw upstream GET responses kept for as long as their {@code Cache-Control}/{@code Expires}
+     * headers allow; {@code ttl} caps the lifetime upstream headers can grant.
+     */
+    private Spec httpResponses = new Spec(2_000, Duration.ofHours(1), Duration.ZERO);
+
+    /**
+     * Serialized REST response bodies per endpoint and city, written as-is while the forecast
+     * snapshot they were rendered from is still current.
+     */
+    private Spec responses = new Spec(1_000, Duration.ofHours(1), Duration.ZERO);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private int maxSize;
+        private Duration ttl;
+        /**
+         * How long "not found" answers are kept; zero disables negative caching.
+         */
+        private Duration negativeTtl = Duration.ZERO;
+        /**
+         * Revalidated entries are served without asking upstream for at least this long, even when
+         * upstream headers grant less; zero follows the headers alone. {@code no-cache} always wins.
+         */
+        private Duration minFresh = Duration.ZERO;
+        /**
+         * How long after going stale an entry is still returned at once while it is revalidated in the
+         * background; zero always revalidates before answering.
+         */
+        private Duration staleWhileRevalidate = Duration.ZERO;
+        /**
+         * How long after going stale an entry is still returned when revalidating it fails with a
+         * server error, a timeout or rate limiting; zero surfaces every upstream failure.
+         */
+        private Duration staleIfError = Duration.ZERO;
+
+        public Spec(int maxSize, Duration ttl, Duration negativeTtl) {
+            this(maxSize, ttl, negativeTtl, Duration.ZERO);
+        }
+
+        public Spec(int maxSize, Duration ttl, Duration negativeTtl, Duration minFresh) {
+            this(maxSize, ttl, negativeTtl, minFresh, Duration.ZERO, Duration.ZERO);
+        }
+    }
+}
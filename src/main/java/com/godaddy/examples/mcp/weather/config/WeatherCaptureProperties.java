@@ -0,0 +1,36 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Opt-in recording of MCP tool calls and REST requests for later replay, bound from {@code weather.capture}.
+ */
+@Data
+@ConfigurationProperties(prefix = "weather.capture")
+public class WeatherCaptureProperties {
+
+    /**
+     * Record traffic; off unless set.
+     */
+    private boolean enabled = false;
+
+    /**
+     * File the recording is written to, one JSON event per line, replaced on startup.
+     * A name ending in {@code .gz} is gzip-compressed.
+     */
+    private String file = "traffic.jsonl.gz";
+
+    /**
+     * Decimal places latitudes and longitudes are rounded to before they are written. 2 places is about a
+     * kilometre, enough to keep a replay spread over the same grid points without pinning down an address.
+     */
+    private int coordinateDecimals = 2;
+
+    /**
+     * Events waiting for the writer; when it falls this far behind, further events are dropped and counted
+     * rather than slowing down requests.
+     */
+    private int queueCapacity = 10_000;
+}
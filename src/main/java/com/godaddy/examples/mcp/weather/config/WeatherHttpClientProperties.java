@@ -0,0 +1,64 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Connection pool and timeout settings for the outbound HTTP client used to reach
+ * api.weather.gov and the Open-Meteo geocoder, bound from {@code weather.http}.
+ */
+@Data
+@ConfigurationProperties(prefix = "weather.http")
+public class WeatherHttpClientProperties {
+
+    /**
+     * Upper bound on open connections across all upstream hosts.
+     */
+    private int maxConnectionsTotal = 200;
+
+    /**
+     * Default upper bound on open connections to any single host.
+     */
+    private int maxConnectionsPerHost = 50;
+
+    /**
+     * Per-host overrides of {@code max-connections-per-host}, keyed by HTTPS host name.
+     */
+    private Map<String, Integer> hostMaxConnections = new LinkedHashMap<>();
+
+    /**
+     * Time allowed to establish a TCP/TLS connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Time allowed between response bytes once a request has been sent.
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Time a request may wait for a free pooled connection before failing.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Idle keep-alive connections older than this are closed in the background.
+     */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Pooled connections are never reused after this age, so DNS changes are picked up.
+     */
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    /**
+     * Use the JDK HTTP client with HTTP/2 instead of the pooled HTTP/1.1 client.
+     * HTTP/2 multiplexes requests over one connection per host, so the pool limits above do not apply.
+     */
+    private boolean http2Enabled = false;
+}
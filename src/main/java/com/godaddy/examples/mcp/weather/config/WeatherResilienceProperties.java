@@ -0,0 +1,87 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Circuit breaker, bulkhead and retry settings per upstream, bound from {@code weather.resilience}.
+ */
+@Data
+@ConfigurationProperties(prefix = "weather.resilience")
+public class WeatherResilienceProperties {
+
+    /**
+     * NWS {@code /points} lookups.
+     */
+    private Guard points = new Guard(20);
+
+    /**
+     * NWS grid forecasts.
+     */
+    private Guard forecasts = new Guard(20);
+
+    /**
+     * NWS active alerts.
+     */
+    private Guard alerts = new Guard(10);
+
+    /**
+     * NWS zone polygons fetched by the alert index.
+     */
+    private Guard zones = new Guard(10);
+
+    /**
+     * Open-Meteo geocoding.
+     */
+    private Guard geocoding = new Guard(10);
+
+    /**
+     * Retries of idempotent requests that failed with a server error, rate limiting or an I/O error.
+     */
+    private Retry retry = new Retry();
+
+    @Data
+    @NoArgsConstructor
+    public static class Guard {
+        /**
+         * Calls to this upstream that may be in flight at once.
+         */
+        private int maxConcurrentCalls = 20;
+        /**
+         * How long a call waits for a free slot before failing with {@code UPSTREAM_BULKHEAD_FULL}.
+         */
+        private Duration maxWait = Duration.ofMillis(500);
+        /**
+         * Consecutive failures that open the circuit.
+         */
+        private int failureThreshold = 5;
+        /**
+         * How long an open circuit fails calls with {@code UPSTREAM_CIRCUIT_OPEN} before letting a trial call through.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        public Guard(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+    }
+
+    @Data
+    public static class Retry {
+        /**
+         * Attempts per request, the first included; 1 disables retries.
+         */
+        private int maxAttempts = 3;
+        /**
+         * Upper bound of the random delay before the first retry; it doubles for each further retry.
+         */
+        private Duration initialBackoff = Duration.ofMillis(100);
+        /**
+         * Upper bound of any delay between attempts.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(1);
+    }
+}
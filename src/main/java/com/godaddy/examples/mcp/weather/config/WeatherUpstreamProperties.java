@@ -0,0 +1,24 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Where the upstream APIs live, bound from {@code weather.upstream}. Point these at a local stand-in to
+ * run the server against recorded payloads, as the load tests do.
+ */
+@Data
+@ConfigurationProperties(prefix = "weather.upstream")
+public class WeatherUpstreamProperties {
+
+    /**
+     * Base URL of the National Weather Service API; points and alerts paths are appended to it.
+     */
+    private String nwsBaseUrl = "https://api.weather.gov";
+
+    /**
+     * Open-Meteo geocoding search endpoint; the query string is appended to it.
+     */
+    private String geocodingUrl = "https://geocoding-api.open-meteo.com/v1/search";
+}
@@ -0,0 +1,38 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Cache warm-up at startup and the background refresh that keeps it warm, bound from {@code weather.warmup}.
+ */
+@Data
+@ConfigurationProperties(prefix = "weather.warmup")
+public class WeatherWarmupProperties {
+
+    /**
+     * Warm the caches after startup and keep refreshing them.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cities to keep warm; empty means the supported cities list.
+     */
+    private List<String> cities = new ArrayList<>();
+
+    /**
+     * Every city is refreshed once per interval, one city at a time spread evenly across it.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(10);
+
+    /**
+     * Share of cities (0-1) that may still be unloaded when readiness goes up; past it the instance stays
+     * out of service until the background refresh has loaded enough of them.
+     */
+    private double maxFailedFraction = 0.5;
+}
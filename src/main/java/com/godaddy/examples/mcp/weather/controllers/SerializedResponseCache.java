@@ -0,0 +1,94 @@
+package com.godaddy.examples.mcp.weather.controllers;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.cache.CacheStats;
+import com.godaddy.examples.mcp.weather.cache.ExpiringCache;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import com.godaddy.examples.mcp.weather.services.ForecastResult;
+import com.godaddy.examples.mcp.weather.services.ForecastValidity;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Ready-to-write JSON bodies for the hot city endpoints, keyed by endpoint and the city name as requested,
+ * since the body echoes that spelling. An entry is reused only while the forecast snapshot it was rendered
+ * from is still current and served at the same staleness, so a new upstream forecast is never hidden behind
+ * an old body. Each body carries a strong {@code ETag} over its bytes.
+ */
+final class SerializedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final ExpiringCache<String, SerializedBody> entries;
+
+    SerializedResponseCache(ObjectMapper objectMapper, WeatherCacheProperties.Spec spec) {
+        this.objectMapper = objectMapper;
+        this.entries = new ExpiringCache<>("responses", spec.getMaxSize(), spec.getTtl());
+    }
+
+    /**
+     * Return the body stored for {@code endpoint} and {@code cityName} when it was rendered from the forecast
+     * {@code current} describes, carrying {@code current}; otherwise render and serialize it, and keep it under
+     * the validity of the snapshot it was rendered from when that is known.
+     */
+    SerializedBody get(String endpoint, String cityName, Optional<ForecastValidity> current,
+                       Supplier<? extends ForecastResult<?>> render) {
+        String key = endpoint + ":" + cityName;
+        if (current.isPresent()) {
+            Optional<SerializedBody> cached = entries.get(key).filter(entry -> entry.renders(current.get()));
+            if (cached.isPresent()) {
+                return cached.get().withValidity(current.get());
+            }
+        }
+
+        ForecastResult<?> result = render.get();
+        SerializedBody rendered = serialize(result.value(), endpoint, result.validity());
+        if (result.validity() != null) {
+            entries.put(key, rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * Serialize a response that is not tied to a forecast version, only to give it an {@code ETag}.
+     */
+    SerializedBody render(String endpoint, Object value) {
+        return serialize(value, endpoint, null);
+    }
+
+    CacheStats stats() {
+        return entries.stats();
+    }
+
+    private SerializedBody serialize(Object value, String endpoint, ForecastValidity validity) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new SerializedBody(validity, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new WeatherServerException("Failed to serialize response: " + e.getMessage(),
+                "RESPONSE_SERIALIZATION_ERROR", endpoint, e);
+        }
+    }
+
+    /**
+     * A serialized body with the validity of the forecast it shows, {@code null} when it is not tied to one.
+     */
+    record SerializedBody(ForecastValidity validity, byte[] body, String etag) {
+
+        boolean renders(ForecastValidity current) {
+            return validity != null && validity.version() == current.version()
+                && Objects.equals(validity.staleAgeSeconds(), current.staleAgeSeconds());
+        }
+
+        /**
+         * The same bytes described by {@code current}, which may carry a later freshness after a revalidation.
+         */
+        SerializedBody withValidity(ForecastValidity current) {
+            return new SerializedBody(current, body, etag);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.godaddy.examples.mcp.weather.controllers;
+
+import java.util.List;
+
+import com.godaddy.examples.mcp.weather.services.BatchLocation;
+
+/**
+ * Body of {@code POST /weather/batch}. Current conditions are returned unless {@code forecast} is set;
+ * {@code days} and {@code fields} then shape each forecast as they do for {@code /weather/{city}/forecast}.
+ */
+public record WeatherBatchRequest(
+    List<BatchLocation> locations,
+    boolean forecast,
+    Integer days,
+    String fields
+) {
+}
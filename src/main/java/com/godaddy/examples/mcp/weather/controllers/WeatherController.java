@@ -1,14 +1,29 @@
 package com.godaddy.examples.mcp.weather.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.controllers.SerializedResponseCache.SerializedBody;
 import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import com.godaddy.examples.mcp.weather.http.UpstreamGuardInterceptor;
+import com.godaddy.examples.mcp.weather.services.ForecastFields;
+import com.godaddy.examples.mcp.weather.services.ForecastValidity;
 import com.godaddy.examples.mcp.weather.services.WeatherService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -18,30 +33,135 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WeatherController {
 
+    /**
+     * {@link WeatherService#getSupportedCities()} is a fixed list.
+     */
+    private static final CacheControl SUPPORTED_CITIES_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
     private final WeatherService weatherService;
+    private final SerializedResponseCache responseCache;
 
-    public WeatherController(WeatherService weatherService) {
+    public WeatherController(WeatherService weatherService, ObjectMapper objectMapper,
+                             WeatherCacheProperties cacheProperties) {
         this.weatherService = weatherService;
+        this.responseCache = new SerializedResponseCache(objectMapper, cacheProperties.getResponses());
     }
 
     @GetMapping("/weather/{city}")
-    public ResponseEntity<Map<String, Object>> getWeather(@PathVariable("city") String city) {
-        return ResponseEntity.ok().body(weatherService.getCurrentWeather(city));
+    public ResponseEntity<byte[]> getWeather(@PathVariable("city") String city,
+                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedBody body = responseCache.get("getWeather", city, weatherService.getForecastValidity(city),
+            () -> weatherService.getCurrentWeather(city));
+        return respond(body, ifNoneMatch);
     }
 
+    /**
+     * {@code days} limits the forecast to its first days (1-7, two periods per day). {@code fields} selects
+     * forecast period fields, {@code compact=true} is shorthand for {@code fields=compact}; {@code fields} wins
+     * when both are given.
+     */
     @GetMapping("/weather/{city}/forecast")
-    public ResponseEntity<List<Map<String, Object>>> getForecast(@PathVariable("city") String city) {
-        return ResponseEntity.ok().body(weatherService.getWeatherForecast(city, 5));
+    public ResponseEntity<byte[]> getForecast(@PathVariable("city") String city,
+                                              @RequestParam(value = "days", defaultValue = "5") int days,
+                                              @RequestParam(value = "fields", required = false) String fields,
+                                              @RequestParam(value = "compact", defaultValue = "false") boolean compact,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        WeatherService.checkForecastDays(days);
+        ForecastFields selection = ForecastFields.parse(fields != null ? fields : compact ? ForecastFields.COMPACT : null);
+        SerializedBody body = responseCache.get("getForecast?days=" + days + "&fields=" + selection.key(), city,
+            weatherService.getForecastValidity(city),
+            () -> weatherService.getWeatherForecast(city, days).map(selection::selectForCity));
+        return respond(body, ifNoneMatch);
+    }
+
+    @GetMapping("/weather/{city}/bundle")
+    public ResponseEntity<byte[]> getBundle(@PathVariable("city") String city,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedBody body = responseCache.render("getBundle", weatherService.getCityWeatherBundle(city));
+        // Alerts change on their own schedule, so the bundle is never served from a cache without revalidation
+        return respond(body, CacheControl.noCache(), null, ifNoneMatch);
+    }
+
+    /**
+     * One result or error per requested location, in request order; a location that fails does not fail the batch.
+     */
+    @PostMapping("/weather/batch")
+    public ResponseEntity<List<?>> getBatch(@RequestBody WeatherBatchRequest request) {
+        List<?> results = request.forecast()
+            ? weatherService.getWeatherForecastBatch(request.locations(), request.days(), request.fields())
+            : weatherService.getCurrentWeatherBatch(request.locations());
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(results);
     }
 
     @GetMapping("/cities")
     public ResponseEntity<List<String>> getSupportedCities() {
-        return ResponseEntity.ok().body(weatherService.getSupportedCities());
+        return ResponseEntity.ok()
+            .cacheControl(SUPPORTED_CITIES_CACHE_CONTROL)
+            .body(weatherService.getSupportedCities());
+    }
+
+    /**
+     * {@link #respond(SerializedBody, CacheControl, String, String)} with the caching headers of the forecast
+     * the body was rendered from.
+     */
+    private static ResponseEntity<byte[]> respond(SerializedBody body, String ifNoneMatch) {
+        ForecastValidity validity = body.validity();
+        return respond(body, cacheControl(validity), validity != null ? validity.lastModified() : null, ifNoneMatch);
+    }
+
+    /**
+     * A {@code 304} with the validators and caching headers but no body when {@code If-None-Match}
+     * matches the body's {@code ETag}, otherwise a {@code 200} with the body.
+     */
+    private static ResponseEntity<byte[]> respond(SerializedBody body, CacheControl cacheControl,
+                                                  String lastModified, String ifNoneMatch) {
+        boolean notModified = matches(ifNoneMatch, body.etag());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+            .eTag(body.etag())
+            .cacheControl(cacheControl);
+        if (lastModified != null) {
+            response.header(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        if (notModified) {
+            return response.build();
+        }
+        return response.contentType(MediaType.APPLICATION_JSON).body(body.body());
+    }
+
+    /**
+     * {@code If-None-Match} uses the weak comparison, so {@code W/"x"} matches {@code "x"}.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Shared caches may keep the response for as long as upstream considers the forecast fresh.
+     */
+    private static CacheControl cacheControl(ForecastValidity validity) {
+        if (validity == null) {
+            return CacheControl.noCache();
+        }
+        Duration remaining = Duration.between(Instant.now(), validity.freshUntil());
+        return CacheControl.maxAge(remaining.isNegative() ? Duration.ZERO : remaining).cachePublic();
     }
     
     @ExceptionHandler(WeatherServerException.class)
-    public ResponseEntity<Map<String, Object>> handleWeatherServerException(WeatherServerException ex) {
-        log.error("Weather server error: {}", ex.getFormattedMessage(), ex);
+    public ResponseEntity<Map<String, Object>> handleWeatherServerException(WeatherServerException failure) {
+        log.error("Weather server error: {}", failure.getFormattedMessage(), failure);
+        // A call refused by an upstream circuit breaker or bulkhead is reported as such, whatever operation wrapped it
+        WeatherServerException ex = UpstreamGuardInterceptor.findRejection(failure).orElse(failure);
         
         Map<String, Object> errorResponse = Map.of(
             "error", true,
@@ -54,8 +174,10 @@ public class WeatherController {
         // Determine HTTP status based on error code
         HttpStatus status = switch (ex.getErrorCode()) {
             case "CITY_NOT_FOUND" -> HttpStatus.NOT_FOUND;
+            case "INVALID_FIELDS", "INVALID_DAYS", "INVALID_BATCH" -> HttpStatus.BAD_REQUEST;
             case "GEOCODING_ERROR", "NWS_GRID_ERROR", "NWS_FORECAST_ERROR", 
                  "NWS_LOCATION_ERROR" -> HttpStatus.BAD_GATEWAY;
+            case UpstreamGuardInterceptor.CIRCUIT_OPEN, UpstreamGuardInterceptor.BULKHEAD_FULL -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
         
@@ -0,0 +1,97 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * RFC 9111 freshness rules shared by the HTTP caching layers.
+ */
+final class HttpFreshness {
+
+    private HttpFreshness() {
+    }
+
+    /**
+     * Whether a response may be kept at all: not {@code no-store} and not {@code Vary: *}.
+     */
+    static boolean isStorable(HttpHeaders headers) {
+        return !cacheControl(headers).containsKey("no-store") && !headers.getVary().contains("*");
+    }
+
+    /**
+     * How much longer a response stays fresh, from {@code s-maxage}/{@code max-age} or
+     * {@code Expires} minus its {@code Age}. Zero when the response is {@code no-cache},
+     * carries no freshness information, or is already stale.
+     */
+    static Duration remainingLifetime(HttpHeaders headers, Clock clock) {
+        Map<String, String> directives = cacheControl(headers);
+        if (directives.containsKey("no-cache")) {
+            return Duration.ZERO;
+        }
+
+        Duration lifetime;
+        Long maxAge = parseSeconds(directives.getOrDefault("s-maxage", directives.get("max-age")));
+        if (maxAge != null) {
+            lifetime = Duration.ofSeconds(maxAge);
+        } else {
+            long expires = headers.getExpires();
+            if (expires < 0) {
+                return Duration.ZERO;
+            }
+            lifetime = Duration.ofMillis(expires - dateOf(headers, clock));
+        }
+
+        Duration remaining = lifetime.minusSeconds(age(headers));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    static long age(HttpHeaders headers) {
+        Long age = parseSeconds(headers.getFirst(HttpHeaders.AGE));
+        return age != null ? age : 0;
+    }
+
+    static Map<String, String> cacheControl(HttpHeaders headers) {
+        Map<String, String> directives = new HashMap<>();
+        for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : value.split(",")) {
+                String trimmed = directive.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                int equals = trimmed.indexOf('=');
+                if (equals < 0) {
+                    directives.put(trimmed.toLowerCase(Locale.ROOT), "");
+                } else {
+                    directives.put(trimmed.substring(0, equals).trim().toLowerCase(Locale.ROOT),
+                        trimmed.substring(equals + 1).trim().replace("\"", ""));
+                }
+            }
+        }
+        return directives;
+    }
+
+    private static long dateOf(HttpHeaders headers, Clock clock) {
+        try {
+            long date = headers.getDate();
+            return date >= 0 ? date : clock.millis();
+        } catch (IllegalArgumentException e) {
+            return clock.millis();
+        }
+    }
+
+    private static Long parseSeconds(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
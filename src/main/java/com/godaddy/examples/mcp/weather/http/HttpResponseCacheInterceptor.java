@@ -0,0 +1,185 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.godaddy.examples.mcp.weather.cache.CacheStats;
+import com.godaddy.examples.mcp.weather.cache.ExpiringCache;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ClientHttpRequestInterceptor} that keeps successful GET responses in memory for as long as
+ * the upstream allows through {@code Cache-Control: max-age}/{@code s-maxage} or {@code Expires}.
+ * Responses marked {@code no-store} or {@code no-cache}, or without any freshness information, are
+ * never stored. The configured TTL caps how long any single response is kept.
+ * Conditional requests whose {@code If-None-Match} matches a fresh stored response get a {@code 304}.
+ * <p>
+ * Bodies over 1 MiB are not stored; reading stops at the limit and the rest is streamed through.
+ * NWS points and geocoding responses are not stored either: {@code WeatherService} already caches them,
+ * and a second TTL layer would only stretch how long a stale answer survives. Nor are NWS zone polygons,
+ * which {@code AlertIngester} keeps parsed and would otherwise be held twice.
+ */
+@Slf4j
+public class HttpResponseCacheInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final int MAX_BODY_BYTES = 1024 * 1024;
+    private static final Set<Upstream> CACHED_ELSEWHERE = EnumSet.of(Upstream.POINTS, Upstream.ZONES, Upstream.GEOCODING);
+
+    private final ExpiringCache<String, StoredResponse> responses;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public HttpResponseCacheInterceptor(WeatherCacheProperties.Spec spec) {
+        this(spec, Clock.systemUTC());
+    }
+
+    public HttpResponseCacheInterceptor(WeatherCacheProperties.Spec spec, Clock clock) {
+        this.responses = new ExpiringCache<>("httpResponses", spec.getMaxSize(), spec.getTtl(), clock);
+        this.maxTtl = spec.getTtl();
+        this.clock = clock;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (request.getMethod() != HttpMethod.GET
+                || Upstream.of(request.getURI()).filter(CACHED_ELSEWHERE::contains).isPresent()) {
+            return execution.execute(request, body);
+        }
+
+        String cacheKey = request.getURI().toString();
+        if (!HttpFreshness.cacheControl(request.getHeaders()).containsKey("no-cache")) {
+            Optional<StoredResponse> stored = responses.get(cacheKey);
+            if (stored.isPresent()) {
+                log.debug("Serving {} from HTTP response cache", cacheKey);
+                return stored.get().toResponse(request.getHeaders().getIfNoneMatch(), clock.instant());
+            }
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        Duration freshness = freshnessLifetime(response);
+        if (freshness.isZero() || response.getHeaders().getContentLength() > MAX_BODY_BYTES) {
+            return response;
+        }
+
+        byte[] responseBody;
+        try {
+            responseBody = response.getBody().readNBytes(MAX_BODY_BYTES + 1);
+        } catch (IOException e) {
+            response.close();
+            throw e;
+        }
+        if (responseBody.length > MAX_BODY_BYTES) {
+            log.debug("Not caching {}, body exceeds {} bytes", cacheKey, MAX_BODY_BYTES);
+            return new PartlyReadResponse(response, responseBody);
+        }
+        StoredResponse stored;
+        try (response) {
+            HttpHeaders responseHeaders = new HttpHeaders();
+            responseHeaders.putAll(response.getHeaders());
+            stored = new StoredResponse(response.getStatusCode(), response.getStatusText(),
+                responseHeaders, responseBody, clock.instant(), HttpFreshness.age(responseHeaders));
+        }
+        responses.put(cacheKey, stored, freshness);
+        log.debug("Cached {} for {}s", cacheKey, freshness.toSeconds());
+        return stored.toResponse(List.of(), stored.storedAt());
+    }
+
+    public CacheStats stats() {
+        return responses.stats();
+    }
+
+    /**
+     * Remaining freshness of a response, capped at the configured TTL, or zero when it must not be stored.
+     */
+    private Duration freshnessLifetime(ClientHttpResponse response) throws IOException {
+        if (!response.getStatusCode().isSameCodeAs(HttpStatus.OK) || !HttpFreshness.isStorable(response.getHeaders())) {
+            return Duration.ZERO;
+        }
+        Duration remaining = HttpFreshness.remainingLifetime(response.getHeaders(), clock);
+        return remaining.compareTo(maxTtl) > 0 ? maxTtl : remaining;
+    }
+
+    private record StoredResponse(
+        HttpStatusCode status,
+        String statusText,
+        HttpHeaders headers,
+        byte[] body,
+        Instant storedAt,
+        long initialAge
+    ) {
+
+        ClientHttpResponse toResponse(List<String> ifNoneMatch, Instant now) {
+            HttpHeaders replayHeaders = new HttpHeaders();
+            replayHeaders.putAll(headers);
+            long age = initialAge + Duration.between(storedAt, now).toSeconds();
+            replayHeaders.set(HttpHeaders.AGE, Long.toString(age));
+
+            String etag = headers.getETag();
+            if (etag != null && (ifNoneMatch.contains(etag) || ifNoneMatch.contains("*"))) {
+                replayHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+                return new CachedClientHttpResponse(HttpStatus.NOT_MODIFIED, HttpStatus.NOT_MODIFIED.getReasonPhrase(),
+                    replayHeaders, new byte[0]);
+            }
+            return new CachedClientHttpResponse(status, statusText, replayHeaders, body);
+        }
+    }
+
+    /**
+     * An upstream response whose first bytes were already read; they are replayed ahead of the rest.
+     */
+    private static final class PartlyReadResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final InputStream body;
+
+        PartlyReadResponse(ClientHttpResponse delegate, byte[] prefix) throws IOException {
+            this.delegate = delegate;
+            this.body = new SequenceInputStream(new ByteArrayInputStream(prefix), delegate.getBody());
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
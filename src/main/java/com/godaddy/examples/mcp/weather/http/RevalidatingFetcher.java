@@ -0,0 +1,299 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.godaddy.examples.mcp.weather.cache.CacheStats;
+import com.godaddy.examples.mcp.weather.cache.ExpiringCache;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fetches an upstream document, projects it once, and keeps the projection together with the
+ * response's {@code ETag}/{@code Last-Modified} validators.
+ * While the upstream freshness lifetime lasts the projection is returned without any request;
+ * afterwards a conditional GET is sent, and a {@code 304 Not Modified} reuses the stored
+ * projection without decoding anything.
+ * <p>
+ * A stale projection within {@code stale-while-revalidate} is returned at once while one background
+ * revalidation per URL runs on the refresh executor; without an executor every stale read revalidates
+ * first. When revalidating fails because upstream is down, slow or rate limiting, the stored projection
+ * is returned for up to {@code stale-if-error} past its freshness. Either way the result says it is stale.
+ *
+ * @param <B> type the response body is decoded into
+ * @param <T> projected result handed back to callers
+ */
+@Slf4j
+public class RevalidatingFetcher<B, T> {
+
+    private final RestTemplate restTemplate;
+    private final Class<B> bodyType;
+    private final Function<B, T> projector;
+    private final ExpiringCache<String, Validated<T>> entries;
+    private final Duration minFresh;
+    private final Duration staleWhileRevalidate;
+    private final Duration staleIfError;
+    private final Executor refreshExecutor;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Clock clock;
+
+    private final AtomicLong freshHits = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong fullFetches = new AtomicLong();
+    private final AtomicLong staleWhileRevalidating = new AtomicLong();
+    private final AtomicLong staleOnError = new AtomicLong();
+
+    public RevalidatingFetcher(String name, RestTemplate restTemplate, Class<B> bodyType, Function<B, T> projector,
+                               Settings settings) {
+        this.restTemplate = restTemplate;
+        this.bodyType = bodyType;
+        this.projector = projector;
+        this.entries = new ExpiringCache<>(name, settings.maxSize(), settings.ttl(), settings.clock());
+        this.minFresh = settings.minFresh();
+        this.staleWhileRevalidate = settings.staleWhileRevalidate();
+        this.staleIfError = settings.staleIfError();
+        this.refreshExecutor = settings.refreshExecutor();
+        this.clock = settings.clock();
+    }
+
+    /**
+     * Return the projection of {@code url}, revalidating a stored copy when it has gone stale.
+     * The projector receives {@code null} when the upstream sends no body.
+     */
+    public T fetch(String url) {
+        return fetchWithValidity(url).value();
+    }
+
+    /**
+     * Like {@link #fetch(String)}, also reporting until when the result is fresh, until when upstream
+     * alone would consider it fresh, and the upstream {@code Last-Modified}. A result that could not be
+     * stored is fresh until now.
+     */
+    public Fetched<T> fetchWithValidity(String url) {
+        Instant now = clock.instant();
+        Optional<Validated<T>> stored = entries.get(url);
+        if (stored.isPresent()) {
+            Validated<T> entry = stored.get();
+            if (entry.isFresh(now)) {
+                freshHits.incrementAndGet();
+                return entry.toFetched(false);
+            }
+            if (refreshExecutor != null && entry.isWithin(staleWhileRevalidate, now)) {
+                staleWhileRevalidating.incrementAndGet();
+                revalidateInBackground(url, stored);
+                return entry.toFetched(true);
+            }
+        }
+
+        try {
+            return revalidate(url, stored);
+        } catch (RuntimeException e) {
+            if (stored.isPresent() && isOutage(e) && stored.get().isWithin(staleIfError, clock.instant())) {
+                staleOnError.incrementAndGet();
+                log.warn("Revalidating {} failed ({}), serving the result stale since {}", url, e.getMessage(),
+                    stored.get().freshUntil());
+                return stored.get().toFetched(true);
+            }
+            throw e;
+        }
+    }
+
+    public RevalidationStats stats() {
+        return new RevalidationStats(freshHits.get(), notModified.get(), fullFetches.get(),
+            staleWhileRevalidating.get(), staleOnError.get());
+    }
+
+    public CacheStats cacheStats() {
+        return entries.stats();
+    }
+
+    /**
+     * Conditional GET for {@code url}, storing what comes back.
+     */
+    private Fetched<T> revalidate(String url, Optional<Validated<T>> stored) {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        stored.ifPresent(entry -> entry.applyTo(requestHeaders));
+        ResponseEntity<B> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(requestHeaders), bodyType);
+        HttpHeaders responseHeaders = response.getHeaders();
+
+        if (stored.isPresent() && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            notModified.incrementAndGet();
+            log.debug("{} not modified, reusing stored result", url);
+            Instant upstreamFreshUntil = upstreamFreshUntil(responseHeaders);
+            Validated<T> revalidated = stored.get().refreshedBy(responseHeaders,
+                freshUntil(responseHeaders, upstreamFreshUntil), upstreamFreshUntil, clock.instant());
+            entries.put(url, revalidated);
+            return revalidated.toFetched(false);
+        }
+
+        fullFetches.incrementAndGet();
+        T value = projector.apply(response.getBody());
+        Instant upstreamFreshUntil = upstreamFreshUntil(responseHeaders);
+        Validated<T> validated = new Validated<>(value, responseHeaders.getETag(),
+            responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED), freshUntil(responseHeaders, upstreamFreshUntil),
+            upstreamFreshUntil, clock.instant());
+        if (value != null && HttpFreshness.isStorable(responseHeaders)
+                && (validated.hasValidators() || validated.isFresh(clock.instant()))) {
+            entries.put(url, validated);
+            return validated.toFetched(false);
+        }
+        return new Fetched<>(value, clock.instant(), clock.instant(), validated.lastModified(), validated.fetchedAt(), false);
+    }
+
+    /**
+     * Start a revalidation of {@code url} unless one is already running; failures leave the stored entry as it is.
+     */
+    private void revalidateInBackground(String url, Optional<Validated<T>> stored) {
+        if (!refreshing.add(url)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    revalidate(url, stored);
+                } catch (RuntimeException e) {
+                    log.warn("Background revalidation of {} failed: {}", url, e.getMessage());
+                } finally {
+                    refreshing.remove(url);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(url);
+            log.debug("No thread free to revalidate {} in the background", url);
+        }
+    }
+
+    /**
+     * Failures that say upstream is unavailable rather than that the request is wrong, including calls
+     * refused by an open circuit or a full bulkhead.
+     */
+    private static boolean isOutage(RuntimeException e) {
+        return e instanceof HttpServerErrorException
+            || e instanceof ResourceAccessException
+            || e instanceof HttpClientErrorException.TooManyRequests
+            || UpstreamGuardInterceptor.findRejection(e).isPresent();
+    }
+
+    /**
+     * End of the freshness lifetime the upstream headers grant.
+     */
+    private Instant upstreamFreshUntil(HttpHeaders responseHeaders) {
+        return clock.instant().plus(HttpFreshness.remainingLifetime(responseHeaders, clock));
+    }
+
+    /**
+     * End of the upstream freshness lifetime, extended to the configured minimum unless the response is {@code no-cache}.
+     */
+    private Instant freshUntil(HttpHeaders responseHeaders, Instant upstreamFreshUntil) {
+        Instant extended = clock.instant().plus(minFresh);
+        if (upstreamFreshUntil.isBefore(extended) && !HttpFreshness.cacheControl(responseHeaders).containsKey("no-cache")) {
+            return extended;
+        }
+        return upstreamFreshUntil;
+    }
+
+    private record Validated<T>(T value, String etag, String lastModified, Instant freshUntil,
+                                Instant upstreamFreshUntil, Instant fetchedAt) {
+
+        boolean isFresh(Instant now) {
+            return now.isBefore(freshUntil);
+        }
+
+        /**
+         * Whether {@code now} is less than {@code grace} past the end of freshness.
+         */
+        boolean isWithin(Duration grace, Instant now) {
+            return now.isBefore(freshUntil.plus(grace));
+        }
+
+        boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+
+        Fetched<T> toFetched(boolean stale) {
+            return new Fetched<>(value, freshUntil, upstreamFreshUntil, lastModified, fetchedAt, stale);
+        }
+
+        void applyTo(HttpHeaders requestHeaders) {
+            if (etag != null) {
+                requestHeaders.setIfNoneMatch(etag);
+            }
+            if (lastModified != null) {
+                requestHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+
+        /**
+         * A 304 may carry updated validators and freshness; keep the stored value either way.
+         */
+        Validated<T> refreshedBy(HttpHeaders responseHeaders, Instant newFreshUntil, Instant newUpstreamFreshUntil,
+                                 Instant now) {
+            String newEtag = responseHeaders.getETag() != null ? responseHeaders.getETag() : etag;
+            String newLastModified = responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED) != null
+                ? responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED) : lastModified;
+            return new Validated<>(value, newEtag, newLastModified, newFreshUntil, newUpstreamFreshUntil, now);
+        }
+    }
+
+    /**
+     * How many projections are kept and for how long, the {@code min-fresh}, {@code stale-while-revalidate}
+     * and {@code stale-if-error} windows, and the executor background revalidations run on; a {@code null}
+     * executor disables stale-while-revalidate.
+     */
+    public record Settings(int maxSize, Duration ttl, Duration minFresh, Duration staleWhileRevalidate,
+                           Duration staleIfError, Executor refreshExecutor, Clock clock) {
+
+        /**
+         * Settings bound from a {@code weather.cache} entry, without background revalidation.
+         */
+        public static Settings of(WeatherCacheProperties.Spec spec) {
+            return new Settings(spec.getMaxSize(), spec.getTtl(), spec.getMinFresh(), spec.getStaleWhileRevalidate(),
+                spec.getStaleIfError(), null, Clock.systemUTC());
+        }
+
+        public Settings withRefreshExecutor(Executor refreshExecutor) {
+            return new Settings(maxSize, ttl, minFresh, staleWhileRevalidate, staleIfError, refreshExecutor, clock);
+        }
+
+        public Settings withClock(Clock clock) {
+            return new Settings(maxSize, ttl, minFresh, staleWhileRevalidate, staleIfError, refreshExecutor, clock);
+        }
+    }
+
+    /**
+     * A fetched projection with the end of its freshness lifetime and the upstream {@code Last-Modified}
+     * header value, which is {@code null} when upstream sent none. {@code upstreamFreshUntil} is the end of
+     * the lifetime the upstream headers grant, before any {@code min-fresh} extension, and is what may be
+     * passed on to downstream caches. {@code fetchedAt} is when upstream last confirmed the projection;
+     * {@code stale} is set when it is served past its freshness.
+     */
+    public record Fetched<T>(T value, Instant freshUntil, Instant upstreamFreshUntil, String lastModified,
+                             Instant fetchedAt, boolean stale) {
+    }
+
+    /**
+     * Counts of requests answered from a fresh projection, by a {@code 304}, by a full download, or
+     * with a stale projection while revalidating in the background or because upstream failed.
+     */
+    public record RevalidationStats(long freshHits, long notModified, long fullFetches,
+                                    long staleWhileRevalidate, long staleOnError) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * The upstream APIs the server calls, told apart by request path alone so they are recognized wherever
+ * their base URLs point.
+ */
+public enum Upstream {
+
+    POINTS("nws-points"),
+    FORECASTS("nws-forecasts"),
+    ALERTS("nws-alerts"),
+    ZONES("nws-zones"),
+    GEOCODING("geocoding");
+
+    private final String tag;
+
+    Upstream(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Name used in metric tags, circuit names and error operations.
+     */
+    public String tag() {
+        return tag;
+    }
+
+    public static Optional<Upstream> of(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        if (path.startsWith("/points/")) {
+            return Optional.of(POINTS);
+        }
+        if (path.startsWith("/gridpoints/")) {
+            return Optional.of(FORECASTS);
+        }
+        if (path.startsWith("/alerts")) {
+            return Optional.of(ALERTS);
+        }
+        if (path.startsWith("/zones/")) {
+            return Optional.of(ZONES);
+        }
+        if (path.endsWith("/v1/search")) {
+            return Optional.of(GEOCODING);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,216 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.godaddy.examples.mcp.weather.config.WeatherResilienceProperties;
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ClientHttpRequestInterceptor} that gives each upstream — NWS points, forecasts, alerts and zones and
+ * the Open-Meteo geocoder — its own circuit breaker and concurrency bulkhead, so one degraded API fails fast
+ * instead of tying up every thread, and cannot starve calls to the others.
+ * A refused call throws a {@link WeatherServerException} with {@value #CIRCUIT_OPEN} or {@value #BULKHEAD_FULL}.
+ * Idempotent requests that fail with a {@code 5xx}, a {@code 429} or an I/O error are retried a bounded number
+ * of times after a random, exponentially growing delay. Retries run inside the call's breaker permit and
+ * bulkhead slot, so a request counts once towards the circuit however many attempts it took, and retries
+ * never add concurrency.
+ * <p>
+ * Retries re-run the rest of the interceptor chain, so this must be the last interceptor on the template.
+ * Every guarded call is timed through {@link UpstreamMetrics}, retries and back-off included.
+ * Requests to any other URL pass straight through.
+ */
+@Slf4j
+public class UpstreamGuardInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String CIRCUIT_OPEN = "UPSTREAM_CIRCUIT_OPEN";
+    public static final String BULKHEAD_FULL = "UPSTREAM_BULKHEAD_FULL";
+
+    private final Map<Upstream, Guard> guards = new EnumMap<>(Upstream.class);
+    private final WeatherResilienceProperties.Retry retry;
+    private final UpstreamMetrics metrics;
+
+    public UpstreamGuardInterceptor(WeatherResilienceProperties properties, UpstreamMetrics metrics) {
+        guards.put(Upstream.POINTS, new Guard(Upstream.POINTS.tag(), properties.getPoints()));
+        guards.put(Upstream.FORECASTS, new Guard(Upstream.FORECASTS.tag(), properties.getForecasts()));
+        guards.put(Upstream.ALERTS, new Guard(Upstream.ALERTS.tag(), properties.getAlerts()));
+        guards.put(Upstream.ZONES, new Guard(Upstream.ZONES.tag(), properties.getZones()));
+        guards.put(Upstream.GEOCODING, new Guard(Upstream.GEOCODING.tag(), properties.getGeocoding()));
+        this.retry = properties.getRetry();
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Optional<Upstream> upstream = Upstream.of(request.getURI());
+        if (upstream.isEmpty()) {
+            return execution.execute(request, body);
+        }
+
+        long started = System.nanoTime();
+        String outcome = UpstreamMetrics.IO_ERROR;
+        try {
+            ClientHttpResponse response = guards.get(upstream.get())
+                .execute(() -> executeWithRetries(request, body, execution));
+            outcome = UpstreamMetrics.outcome(response.getStatusCode().value());
+            return response;
+        } catch (WeatherServerException e) {
+            outcome = findRejection(e).isPresent() ? UpstreamMetrics.REJECTED : UpstreamMetrics.IO_ERROR;
+            throw e;
+        } finally {
+            metrics.record(upstream.get(), outcome, System.nanoTime() - started);
+        }
+    }
+
+    private ClientHttpResponse executeWithRetries(HttpRequest request, byte[] body,
+                                                  ClientHttpRequestExecution execution) throws IOException {
+        int maxAttempts = isIdempotent(request.getMethod()) ? Math.max(1, retry.getMaxAttempts()) : 1;
+        for (int attempt = 1; ; attempt++) {
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("{} attempt {} failed: {}", request.getURI(), attempt, e.getMessage());
+                backOff(attempt);
+                continue;
+            }
+            if (!isFailure(response.getStatusCode()) || attempt >= maxAttempts) {
+                return response;
+            }
+            log.debug("{} attempt {} answered {}", request.getURI(), attempt, response.getStatusCode());
+            response.close();
+            backOff(attempt);
+        }
+    }
+
+    /**
+     * Circuit state per upstream.
+     */
+    public Map<String, CircuitBreaker.State> circuitStates() {
+        Map<String, CircuitBreaker.State> states = new LinkedHashMap<>();
+        guards.values().forEach(guard -> states.put(guard.name, guard.breaker.state()));
+        return states;
+    }
+
+    /**
+     * The refusal behind {@code failure}, if an upstream call was turned away by a breaker or bulkhead,
+     * however deeply the failing operation wrapped it.
+     */
+    public static Optional<WeatherServerException> findRejection(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WeatherServerException exception
+                    && (CIRCUIT_OPEN.equals(exception.getErrorCode()) || BULKHEAD_FULL.equals(exception.getErrorCode()))) {
+                return Optional.of(exception);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isIdempotent(HttpMethod method) {
+        return method == HttpMethod.GET || method == HttpMethod.HEAD;
+    }
+
+    /**
+     * Responses that say upstream is unavailable rather than that the request is wrong.
+     */
+    private static boolean isFailure(HttpStatusCode status) {
+        return status.is5xxServerError() || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * Full jitter: a random delay up to the exponential bound, so retries from many callers spread out.
+     */
+    private void backOff(int attempt) throws IOException {
+        long bound = Math.min(retry.getMaxBackoff().toMillis(), retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while backing off", e);
+        }
+    }
+
+    /**
+     * One logical call to an upstream, retries included.
+     */
+    @FunctionalInterface
+    private interface Call {
+        ClientHttpResponse execute() throws IOException;
+    }
+
+    private static final class Guard {
+
+        private final String name;
+        private final CircuitBreaker breaker;
+        private final Semaphore bulkhead;
+        private final Duration maxWait;
+
+        Guard(String name, WeatherResilienceProperties.Guard spec) {
+            this.name = name;
+            this.breaker = new CircuitBreaker(name, spec.getFailureThreshold(), spec.getOpenDuration());
+            this.bulkhead = new Semaphore(Math.max(1, spec.getMaxConcurrentCalls()));
+            this.maxWait = spec.getMaxWait();
+        }
+
+        /**
+         * Run {@code call} holding one breaker permit and one bulkhead slot, and report its final outcome
+         * to the breaker once.
+         */
+        ClientHttpResponse execute(Call call) throws IOException {
+            if (!breaker.tryAcquire()) {
+                throw new WeatherServerException("Circuit open for " + name + " until " + breaker.openUntil(),
+                    CIRCUIT_OPEN, name);
+            }
+            if (!acquireSlot()) {
+                breaker.release();
+                throw new WeatherServerException("Too many concurrent calls to " + name, BULKHEAD_FULL, name);
+            }
+            try {
+                ClientHttpResponse response = call.execute();
+                if (isFailure(response.getStatusCode())) {
+                    breaker.onFailure();
+                } else {
+                    breaker.onSuccess();
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                breaker.onFailure();
+                throw e;
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        private boolean acquireSlot() {
+            try {
+                return bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@value #TIMER} timer per upstream hop, tagged with the {@link Upstream} and the outcome: the HTTP status
+ * class, {@code IO_ERROR}, or {@code REJECTED} for calls turned away by a circuit breaker or bulkhead.
+ * Publishes p50/p99/p999 and a percentile histogram, so which hop eats the latency budget can be read
+ * straight off {@code /actuator/prometheus}.
+ */
+public class UpstreamMetrics {
+
+    public static final String TIMER = "weather.upstream.requests";
+    static final String IO_ERROR = "IO_ERROR";
+    static final String REJECTED = "REJECTED";
+
+    private final MeterRegistry registry;
+
+    public UpstreamMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void record(Upstream upstream, String outcome, long nanos) {
+        Timer.builder(TIMER)
+            .description("Calls to an upstream API, retries included")
+            .tag("upstream", upstream.tag())
+            .tag("outcome", outcome)
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String outcome(int status) {
+        return Outcome.forStatus(status).name();
+    }
+
+    /**
+     * Times the reactive client's exchanges the same way, from subscription to the response status.
+     */
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> Upstream.of(request.url())
+            .map(upstream -> Mono.defer(() -> {
+                long started = System.nanoTime();
+                return next.exchange(request)
+                    .doOnSuccess(response -> {
+                        if (response != null) {
+                            record(upstream, outcome(response.statusCode().value()), System.nanoTime() - started);
+                        }
+                    })
+                    .doOnError(e -> record(upstream, IO_ERROR, System.nanoTime() - started));
+            }))
+            .orElseGet(() -> next.exchange(request));
+    }
+}
@@ -0,0 +1,184 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.Geometry;
+
+/**
+ * Immutable point-in-polygon index over active alerts. Every alert area is filed under each one-degree grid
+ * cell its bounding box touches, so a lookup only tests the few polygons in the point's cell: a bounding
+ * box check, then an even-odd ray cast over the polygon's rings, which also handles holes.
+ * Alerts whose polygons are not known are matched by zone instead: they apply to a point when their zones
+ * include one of the point's zones.
+ */
+final class AlertIndex {
+
+    static final AlertIndex EMPTY = new AlertIndex(List.of(), List.of());
+
+    private static final double CELL_DEGREES = 1.0;
+
+    private final List<WeatherAlert> alerts;
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Map<Integer, Set<String>> zonesByAlert;
+
+    AlertIndex(List<WeatherAlert> alerts, List<List<Area>> areas) {
+        this(alerts, areas, Map.of());
+    }
+
+    /**
+     * {@code areas.get(i)} are the polygons {@code alerts.get(i)} covers; {@code zonesByAlert} maps the
+     * positions of alerts matched by zone to their {@link #zoneKey(String) zone keys}.
+     */
+    AlertIndex(List<WeatherAlert> alerts, List<List<Area>> areas, Map<Integer, Set<String>> zonesByAlert) {
+        this.alerts = List.copyOf(alerts);
+        this.zonesByAlert = Map.copyOf(zonesByAlert);
+        for (int i = 0; i < alerts.size(); i++) {
+            for (Area area : areas.get(i)) {
+                Entry entry = new Entry(i, area);
+                for (long x = cell(area.minLon()); x <= cell(area.maxLon()); x++) {
+                    for (long y = cell(area.minLat()); y <= cell(area.maxLat()); y++) {
+                        cells.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Alerts whose area contains the point, in feed order, each once. Only valid without zone-matched alerts.
+     */
+    List<WeatherAlert> alertsAt(double latitude, double longitude) {
+        return alertsAt(latitude, longitude, List.of());
+    }
+
+    /**
+     * Alerts whose area contains the point or whose zones include one of {@code pointZones}, given as
+     * zone URLs, in feed order, each once.
+     */
+    List<WeatherAlert> alertsAt(double latitude, double longitude, Collection<String> pointZones) {
+        BitSet matched = new BitSet(alerts.size());
+        for (Entry entry : cells.getOrDefault(key(cell(longitude), cell(latitude)), List.of())) {
+            if (!matched.get(entry.alert()) && entry.area().contains(longitude, latitude)) {
+                matched.set(entry.alert());
+            }
+        }
+        if (!zonesByAlert.isEmpty()) {
+            List<String> keys = pointZones.stream().map(AlertIndex::zoneKey).toList();
+            zonesByAlert.forEach((alert, zones) -> {
+                if (keys.stream().anyMatch(zones::contains)) {
+                    matched.set(alert);
+                }
+            });
+        }
+        return matched.stream().mapToObj(alerts::get).toList();
+    }
+
+    /**
+     * Whether some alerts can only be matched by zone, so lookups need the point's zones.
+     */
+    boolean matchesByZone() {
+        return !zonesByAlert.isEmpty();
+    }
+
+    int zoneMatchedSize() {
+        return zonesByAlert.size();
+    }
+
+    int size() {
+        return alerts.size();
+    }
+
+    /**
+     * A zone URL reduced to its type and ID, such as {@code forecast/ILZ014}, so zones compare equal
+     * whatever base URL they were listed under. Forecast and fire weather zones can share an ID.
+     */
+    static String zoneKey(String zoneUrl) {
+        int id = zoneUrl.lastIndexOf('/');
+        int type = id > 0 ? zoneUrl.lastIndexOf('/', id - 1) : -1;
+        return zoneUrl.substring(type + 1);
+    }
+
+    private static long cell(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long key(long x, long y) {
+        return (x << 32) ^ (y & 0xffffffffL);
+    }
+
+    private record Entry(int alert, Area area) {
+    }
+
+    /**
+     * One polygon; {@code rings} hold alternating longitudes and latitudes, the outer ring first, then holes.
+     */
+    record Area(double minLon, double minLat, double maxLon, double maxLat, double[][] rings) {
+
+        boolean contains(double lon, double lat) {
+            if (lon < minLon || lon > maxLon || lat < minLat || lat > maxLat) {
+                return false;
+            }
+            boolean inside = false;
+            for (double[] ring : rings) {
+                int points = ring.length / 2;
+                for (int i = 0, j = points - 1; i < points; j = i++) {
+                    double xi = ring[2 * i];
+                    double yi = ring[2 * i + 1];
+                    double xj = ring[2 * j];
+                    double yj = ring[2 * j + 1];
+                    if ((yi > lat) != (yj > lat) && lon < (xj - xi) * (lat - yi) / (yj - yi) + xi) {
+                        inside = !inside;
+                    }
+                }
+            }
+            return inside;
+        }
+
+        /**
+         * The polygons of a GeoJSON {@code Polygon} or {@code MultiPolygon}; nothing for any other geometry.
+         */
+        static List<Area> of(Geometry geometry) {
+            if (geometry == null || geometry.coordinates() == null) {
+                return List.of();
+            }
+            List<Area> areas = new ArrayList<>();
+            if ("Polygon".equals(geometry.type())) {
+                areas.add(polygon(geometry.coordinates()));
+            } else if ("MultiPolygon".equals(geometry.type())) {
+                geometry.coordinates().forEach(polygon -> areas.add(polygon(polygon)));
+            }
+            return areas;
+        }
+
+        private static Area polygon(JsonNode rings) {
+            double minLon = Double.POSITIVE_INFINITY;
+            double minLat = Double.POSITIVE_INFINITY;
+            double maxLon = Double.NEGATIVE_INFINITY;
+            double maxLat = Double.NEGATIVE_INFINITY;
+            double[][] flattened = new double[rings.size()][];
+            for (int r = 0; r < rings.size(); r++) {
+                JsonNode ring = rings.get(r);
+                double[] points = new double[ring.size() * 2];
+                for (int p = 0; p < ring.size(); p++) {
+                    double lon = ring.get(p).get(0).asDouble();
+                    double lat = ring.get(p).get(1).asDouble();
+                    points[2 * p] = lon;
+                    points[2 * p + 1] = lat;
+                    minLon = Math.min(minLon, lon);
+                    minLat = Math.min(minLat, lat);
+                    maxLon = Math.max(maxLon, lon);
+                    maxLat = Math.max(maxLat, lat);
+                }
+                flattened[r] = points;
+            }
+            return new Area(minLon, minLat, maxLon, maxLat, flattened);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.godaddy.examples.mcp.weather.cache.ExpiringCache;
+import com.godaddy.examples.mcp.weather.config.WeatherAlertIndexProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
+import com.godaddy.examples.mcp.weather.http.RevalidatingFetcher;
+import com.godaddy.examples.mcp.weather.services.AlertIndex.Area;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.AlertFeature;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.AlertsResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ZoneResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pulls the national {@code /alerts/active} feed every {@code weather.alert-index.refresh-interval} and
+ * indexes it in an {@link AlertIndex}, so alert lookups are answered in memory instead of with one NWS call
+ * per point. Alerts with a polygon are indexed by it; alerts that only list {@code affectedZones} are
+ * indexed by the zone polygons, fetched once through the guarded {@code nws-zones} upstream and cached under
+ * {@code weather.cache.zones}. A zone returned without a polygon is cached as unknown for the cache's
+ * {@code negative-ttl} and then fetched again.
+ * <p>
+ * The feed is fetched with a conditional GET against the validators of the last download. When NWS answers
+ * {@code 304}, or sends the same feed again, and no zone is waiting to be fetched, the current index is kept
+ * and only its ingest time moves on.
+ * <p>
+ * An alert with a zone whose polygon could not be fetched, or is unknown, is matched by zone instead: it applies to a point
+ * when its {@code affectedZones} include one of the point's zones, which only those lookups need. Alerts with
+ * neither a polygon nor zones cannot be placed, and NWS cannot match them to a point either; they are counted
+ * and logged. {@link #alertsAt(double, double, Supplier)} answers while the last ingest is younger than
+ * {@code weather.alert-index.max-age}; otherwise it returns empty and the caller asks NWS for the point.
+ * A zone NWS no longer knows cannot contain any point, so it counts as placed.
+ */
+@Component
+@Slf4j
+public class AlertIngester implements HealthIndicator, DisposableBean {
+
+    private final RestTemplate restTemplate;
+    private final UpstreamUrls upstreamUrls;
+    private final WeatherAlertIndexProperties properties;
+    private final RevalidatingFetcher<AlertsResponse, AlertsResponse> feedFetcher;
+    private final ExpiringCache<String, Optional<List<Area>>> zoneCache;
+    private final Duration unknownZoneTtl;
+    private final Executor zoneFetchExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public AlertIngester(RestTemplate restTemplate, WeatherUpstreamProperties upstreamProperties,
+                         WeatherAlertIndexProperties properties, WeatherCacheProperties cacheProperties,
+                         @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor zoneFetchExecutor) {
+        this(restTemplate, upstreamProperties, properties, cacheProperties, zoneFetchExecutor,
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "alert-ingest");
+                thread.setDaemon(true);
+                return thread;
+            }), Clock.systemUTC());
+    }
+
+    AlertIngester(RestTemplate restTemplate, WeatherUpstreamProperties upstreamProperties,
+                  WeatherAlertIndexProperties properties, WeatherCacheProperties cacheProperties,
+                  Executor zoneFetchExecutor, ScheduledExecutorService scheduler, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.upstreamUrls = new UpstreamUrls(upstreamProperties);
+        this.properties = properties;
+        this.feedFetcher = new RevalidatingFetcher<>("alertFeed", restTemplate, AlertsResponse.class, feed -> feed,
+            new RevalidatingFetcher.Settings(1, properties.getMaxAge(), Duration.ZERO, Duration.ZERO, Duration.ZERO,
+                null, clock));
+        WeatherCacheProperties.Spec zones = cacheProperties.getZones();
+        this.zoneCache = new ExpiringCache<>("zones", zones.getMaxSize(), zones.getTtl(), clock);
+        this.unknownZoneTtl = zones.getNegativeTtl();
+        this.zoneFetchExecutor = zoneFetchExecutor;
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long interval = Math.max(1, properties.getRefreshInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Active alerts at the point, or empty when the index cannot be trusted to answer. {@code pointZones}
+     * supplies the URLs of the zones containing the point; it is only called when some alerts are matched
+     * by zone, and when it fails or knows no zones the lookup is left to NWS.
+     */
+    public Optional<List<WeatherAlert>> alertsAt(double latitude, double longitude,
+                                                 Supplier<List<String>> pointZones) {
+        Snapshot current = snapshot;
+        if (current == null || current.ingestedAt().plus(properties.getMaxAge()).isBefore(clock.instant())) {
+            return Optional.empty();
+        }
+        if (!current.index().matchesByZone()) {
+            return Optional.of(current.index().alertsAt(latitude, longitude));
+        }
+        List<String> zones;
+        try {
+            zones = pointZones.get();
+        } catch (RuntimeException e) {
+            log.debug("Zones of {}, {} unknown: {}", latitude, longitude, e.getMessage());
+            return Optional.empty();
+        }
+        return zones.isEmpty() ? Optional.empty() : Optional.of(current.index().alertsAt(latitude, longitude, zones));
+    }
+
+    /**
+     * Like {@link #alertsAt(double, double, Supplier)} for a point whose zones are not known.
+     */
+    public Optional<List<WeatherAlert>> alertsAt(double latitude, double longitude) {
+        return alertsAt(latitude, longitude, List::of);
+    }
+
+    /**
+     * Download the feed, place every alert and swap in the new index. A failed download keeps the previous one;
+     * an unchanged feed whose zones are all cached keeps it too.
+     */
+    void refresh() {
+        long started = System.nanoTime();
+        try {
+            AlertsResponse feed = feedFetcher.fetch(upstreamUrls.activeAlerts());
+            List<AlertFeature> features = feed == null || feed.features() == null ? List.of() : feed.features().stream()
+                .filter(feature -> feature.properties() != null)
+                .toList();
+            Set<String> zonesToPlace = zonesToPlace(features);
+            Snapshot current = snapshot;
+            if (current != null && zonesToPlace.isEmpty() && Objects.equals(feed, current.feed())) {
+                snapshot = new Snapshot(feed, current.index(), clock.instant(), current.unlocated());
+                log.debug("Active alerts unchanged, keeping the index");
+                return;
+            }
+            fetchZones(zonesToPlace);
+
+            List<WeatherAlert> alerts = new ArrayList<>(features.size());
+            List<List<Area>> areas = new ArrayList<>(features.size());
+            Map<Integer, Set<String>> zoneMatched = new HashMap<>();
+            int unlocated = 0;
+            for (AlertFeature feature : features) {
+                List<Area> alertAreas = Area.of(feature.geometry());
+                List<String> zones = affectedZones(feature);
+                if (alertAreas.isEmpty() && zones.isEmpty()) {
+                    unlocated++;
+                    log.debug("Alert {} has neither a polygon nor zones", feature.properties().event());
+                } else if (alertAreas.isEmpty()) {
+                    alertAreas = new ArrayList<>();
+                    for (String zone : zones) {
+                        Optional<List<Area>> zoneAreas = zoneCache.get(zone).flatMap(known -> known);
+                        if (zoneAreas.isEmpty()) {
+                            zoneMatched.put(alerts.size(), zones.stream()
+                                .map(AlertIndex::zoneKey)
+                                .collect(Collectors.toUnmodifiableSet()));
+                            alertAreas = List.of();
+                            break;
+                        }
+                        alertAreas.addAll(zoneAreas.get());
+                    }
+                }
+                alerts.add(WeatherResults.alert(feature.properties()));
+                areas.add(alertAreas);
+            }
+            snapshot = new Snapshot(feed, new AlertIndex(alerts, areas, zoneMatched), clock.instant(), unlocated);
+            if (unlocated > 0) {
+                log.warn("{} active alerts have neither a polygon nor zones and were not indexed", unlocated);
+            }
+            log.info("Indexed {} active alerts ({} matched by zone) in {} ms", alerts.size(), zoneMatched.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (RuntimeException e) {
+            // An exception would cancel the schedule
+            log.warn("Alert ingest failed: {}", e.getMessage());
+        }
+    }
+
+    private Set<String> zonesToPlace(List<AlertFeature> features) {
+        Set<String> zones = new LinkedHashSet<>();
+        for (AlertFeature feature : features) {
+            if (Area.of(feature.geometry()).isEmpty()) {
+                zones.addAll(affectedZones(feature));
+            }
+        }
+        zones.removeIf(zone -> zoneCache.get(zone).isPresent());
+        return zones;
+    }
+
+    private static List<String> affectedZones(AlertFeature feature) {
+        List<String> zones = feature.properties().affectedZones();
+        return zones == null ? List.of() : zones;
+    }
+
+    /**
+     * Fetch zone polygons on a few workers that share one queue, so a national ingest never floods the
+     * task executor or NWS.
+     */
+    private void fetchZones(Set<String> zones) {
+        Queue<String> pending = new ConcurrentLinkedQueue<>(zones);
+        int workers = Math.min(Math.max(1, properties.getZoneFetchParallelism()), pending.size());
+        List<CompletableFuture<Void>> running = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            Runnable worker = () -> {
+                for (String zone = pending.poll(); zone != null; zone = pending.poll()) {
+                    fetchZone(zone);
+                }
+            };
+            try {
+                running.add(CompletableFuture.runAsync(worker, zoneFetchExecutor));
+            } catch (RejectedExecutionException e) {
+                worker.run();
+            }
+        }
+        CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void fetchZone(String zone) {
+        try {
+            ZoneResponse response = restTemplate.getForObject(zone, ZoneResponse.class);
+            List<Area> areas = response == null ? List.of() : Area.of(response.geometry());
+            if (areas.isEmpty()) {
+                log.debug("Zone {} has no polygon", zone);
+                zoneCache.put(zone, Optional.empty(), unknownZoneTtl);
+            } else {
+                zoneCache.put(zone, Optional.of(areas));
+            }
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                zoneCache.put(zone, Optional.of(List.of()), unknownZoneTtl);
+            } else {
+                log.debug("Zone {} not fetched: {}", zone, e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.debug("Zone {} not fetched: {}", zone, e.getMessage());
+        }
+    }
+
+    @Override
+    public Health health() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Health.unknown().withDetail("enabled", properties.isEnabled()).build();
+        }
+        return Health.up()
+            .withDetail("alerts", current.index().size())
+            .withDetail("matchedByZone", current.index().zoneMatchedSize())
+            .withDetail("unlocated", current.unlocated())
+            .withDetail("ingestedAt", current.ingestedAt().toString())
+            .withDetail("zones", zoneCache.size())
+            .build();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private record Snapshot(AlertsResponse feed, AlertIndex index, Instant ingestedAt, int unlocated) {
+    }
+}
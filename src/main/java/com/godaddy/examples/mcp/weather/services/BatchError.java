@@ -0,0 +1,10 @@
+package com.godaddy.examples.mcp.weather.services;
+
+/**
+ * Why one location of a batch has no result; {@code errorCode} uses the same codes as the single-location tools.
+ */
+public record BatchError(
+    String errorCode,
+    String message
+) {
+}
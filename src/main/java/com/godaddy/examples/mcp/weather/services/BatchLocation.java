@@ -0,0 +1,41 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One location of a batch request: either a city name or a latitude and longitude.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchLocation(
+    String city,
+    Double latitude,
+    Double longitude
+) {
+
+    public static BatchLocation ofCity(String city) {
+        return new BatchLocation(city, null, null);
+    }
+
+    public static BatchLocation ofCoordinates(double latitude, double longitude) {
+        return new BatchLocation(null, latitude, longitude);
+    }
+
+    boolean isCity() {
+        return city != null && !city.isBlank();
+    }
+
+    boolean isValid() {
+        boolean hasCoordinates = latitude != null && longitude != null;
+        return isCity() != hasCoordinates;
+    }
+
+    /**
+     * Locations with the same key resolve to the same point: the normalized city name, or the coordinate
+     * rounded the way grid point lookups are cached. Only defined for valid locations.
+     */
+    String key() {
+        return isCity()
+            ? "city:" + WeatherService.normalizeCityName(city)
+            : "point:" + WeatherService.coordinateKey(latitude, longitude);
+    }
+}
@@ -0,0 +1,14 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The outcome for one location of a batch, in request order: exactly one of {@code result} and {@code error} is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchResult<T>(
+    BatchLocation location,
+    T result,
+    BatchError error
+) {
+}
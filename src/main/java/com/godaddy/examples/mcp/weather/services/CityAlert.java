@@ -0,0 +1,12 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * {@code GetWeatherAlertsByCity} entry: a shared alert tagged with the requested city.
+ */
+public record CityAlert(
+    @JsonUnwrapped WeatherAlert alert,
+    String cityName
+) {
+}
@@ -0,0 +1,14 @@
+package com.godaddy.examples.mcp.weather.services;
+
+/**
+ * {@code GetCityCoordinates} result.
+ */
+public record CityCoordinates(
+    String cityName,
+    double latitude,
+    double longitude,
+    String country,
+    String state,
+    String timezone
+) {
+}
@@ -0,0 +1,12 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * {@code GetWeatherForecastByCity} entry: a shared forecast period tagged with the requested city.
+ */
+public record CityForecastPeriod(
+    @JsonUnwrapped WeatherPeriod period,
+    String cityName
+) {
+}
@@ -0,0 +1,14 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * {@code GetCurrentWeatherByCity} result: the coordinate result plus the city it was resolved from.
+ * The wrapped result is serialized inline, so the JSON stays one flat object.
+ */
+public record CityWeather(
+    @JsonUnwrapped CurrentWeather weather,
+    String cityName,
+    String coordinates
+) {
+}
@@ -0,0 +1,16 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.util.List;
+
+/**
+ * {@code GetCityWeatherBundle} result: everything the per-city tools return, in one object.
+ */
+public record CityWeatherBundle(
+    String cityName,
+    String coordinates,
+    LocationInfo location,
+    CurrentWeather current,
+    List<WeatherPeriod> forecast,
+    List<WeatherAlert> alerts
+) {
+}
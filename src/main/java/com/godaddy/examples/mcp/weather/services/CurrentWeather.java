@@ -0,0 +1,34 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * {@code GetCurrentWeather} result: the forecast period covering now at a coordinate.
+ * {@code stale} and {@code dataAgeSeconds} only appear when the forecast is served past its freshness,
+ * with the seconds since upstream last confirmed it.
+ */
+public record CurrentWeather(
+    String location,
+    String name,
+    String temperature,
+    String windSpeed,
+    String windDirection,
+    String shortForecast,
+    String detailedForecast,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Boolean stale,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long dataAgeSeconds
+) {
+
+    public CurrentWeather(String location, String name, String temperature, String windSpeed,
+                          String windDirection, String shortForecast, String detailedForecast) {
+        this(location, name, temperature, windSpeed, windDirection, shortForecast, detailedForecast, null, null);
+    }
+
+    /**
+     * This result marked stale, or itself when {@code dataAgeSeconds} is {@code null}.
+     */
+    CurrentWeather withDataAge(Long dataAgeSeconds) {
+        return dataAgeSeconds == null ? this : new CurrentWeather(location, name, temperature, windSpeed,
+            windDirection, shortForecast, detailedForecast, true, dataAgeSeconds);
+    }
+}
@@ -0,0 +1,138 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+
+/**
+ * The forecast period fields a caller asked for. {@code compact} keeps the name, temperature,
+ * short forecast and day/night flag; otherwise a comma-separated list of {@link WeatherPeriod} field names.
+ * Selected periods stay {@link WeatherPeriod}s and are written through a Jackson property filter keyed by
+ * the selection, so the heavy {@code detailedForecast} prose is never serialized when it is not wanted and
+ * the stale marker follows the record's own rules.
+ */
+public final class ForecastFields {
+
+    public static final String COMPACT = "compact";
+
+    private static final List<String> PERIOD_FIELDS = List.of(
+        "name", "temperature", "windSpeed", "windDirection", "shortForecast", "detailedForecast", "isDaytime");
+    private static final List<String> COMPACT_FIELDS = List.of("name", "temperature", "shortForecast", "isDaytime");
+
+    /**
+     * Written whenever they are set, whatever the selection.
+     */
+    private static final List<String> STALE_FIELDS = List.of("stale", "dataAgeSeconds");
+    private static final String FILTER = "forecastFields";
+    /**
+     * Only this mapper applies the filter, so every other mapper keeps writing whole periods.
+     */
+    private static final ObjectMapper FILTERING_MAPPER = new ObjectMapper()
+        .addMixIn(WeatherPeriod.class, FilteredPeriod.class);
+
+    private static final ForecastFields ALL = new ForecastFields(PERIOD_FIELDS);
+    private static final ForecastFields COMPACT_SELECTION = new ForecastFields(COMPACT_FIELDS);
+
+    private final List<String> fields;
+    private final ObjectWriter writer;
+
+    private ForecastFields(List<String> fields) {
+        this.fields = fields;
+        Set<String> written = new HashSet<>(fields);
+        written.addAll(STALE_FIELDS);
+        this.writer = FILTERING_MAPPER.writer(new SimpleFilterProvider()
+                .addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(written)))
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Parse a {@code fields} argument; {@code null} or blank selects every field.
+     */
+    public static ForecastFields parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return ALL;
+        }
+        if (spec.trim().toLowerCase(Locale.ROOT).equals(COMPACT)) {
+            return COMPACT_SELECTION;
+        }
+
+        List<String> selected = new ArrayList<>();
+        for (String field : spec.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || selected.contains(name)) {
+                continue;
+            }
+            if (!PERIOD_FIELDS.contains(name)) {
+                throw new WeatherServerException("Unknown forecast field: " + name + "; expected " + COMPACT
+                    + " or any of " + String.join(",", PERIOD_FIELDS), "INVALID_FIELDS", "getWeatherForecast");
+            }
+            selected.add(name);
+        }
+        // Keep the declaration order so equal selections render identical JSON
+        return selected.isEmpty() ? ALL : new ForecastFields(PERIOD_FIELDS.stream().filter(selected::contains).toList());
+    }
+
+    public boolean isAll() {
+        return fields.size() == PERIOD_FIELDS.size();
+    }
+
+    /**
+     * Canonical form of the selection, usable as a cache key part.
+     */
+    public String key() {
+        return isAll() ? "" : String.join(",", fields);
+    }
+
+    /**
+     * The forecast itself when every field is selected, otherwise each period wrapped to serialize with only
+     * the selected fields.
+     */
+    public List<?> select(List<WeatherPeriod> forecast) {
+        return isAll() ? forecast : forecast.stream().map(this::selected).toList();
+    }
+
+    public List<?> selectForCity(List<CityForecastPeriod> forecast) {
+        return isAll() ? forecast : forecast.stream().map(this::selected).toList();
+    }
+
+    private <P> Selected<P> selected(P period) {
+        return new Selected<>(period, this);
+    }
+
+    /**
+     * A {@link WeatherPeriod}, or a {@link CityForecastPeriod} with its city name, that serializes with only
+     * the selected fields through whichever mapper writes it.
+     */
+    public record Selected<P>(P period, ForecastFields fields) implements JsonSerializable {
+
+        @Override
+        public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            fields.writer.writeValue(generator, period);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator generator, SerializerProvider serializers,
+                                      TypeSerializer typeSerializer) throws IOException {
+            serialize(generator, serializers);
+        }
+    }
+
+    @JsonFilter(FILTER)
+    private interface FilteredPeriod {
+    }
+}
@@ -0,0 +1,18 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.util.function.Function;
+
+/**
+ * A city result for the REST endpoints together with the validity of the forecast snapshot it was rendered
+ * from, so a cached rendering is filed under the version it actually shows. {@code validity} is {@code null}
+ * when it is not known.
+ */
+public record ForecastResult<T>(
+    T value,
+    ForecastValidity validity
+) {
+
+    public <R> ForecastResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new ForecastResult<>(mapper.apply(value), validity);
+    }
+}
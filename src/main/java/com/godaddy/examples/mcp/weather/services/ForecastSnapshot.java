@@ -0,0 +1,106 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastPeriod;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastResponse;
+
+/**
+ * One NWS grid forecast, decoded and projected once and then shared by every tool that reads it.
+ * {@code periods} are the decoded upstream periods, the first being the current conditions;
+ * {@code forecast} is their {@code GetWeatherForecast} projection. {@code version} is unique per decoded
+ * document, so anything rendered from a snapshot can tell when upstream has sent a new forecast.
+ * {@code staleAgeSeconds} is {@code null} unless the snapshot is served past its freshness; stale copies
+ * keep the document's version, and together the two identify what a snapshot renders to.
+ * <p>
+ * Not a record only because it remembers its last stale copy: the reported age changes once a minute, so
+ * every stale read within that minute shares one copy instead of re-tagging every period.
+ */
+final class ForecastSnapshot {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /**
+     * Stale ages are reported in whole minutes, so a body rendered from a stale snapshot, and its
+     * {@code ETag}, stay the same for a minute during an outage instead of changing every second.
+     */
+    static final long STALE_AGE_STEP_SECONDS = 60;
+
+    private final List<ForecastPeriod> periods;
+    private final List<WeatherPeriod> forecast;
+    private final long version;
+    private final Long staleAgeSeconds;
+    private volatile ForecastSnapshot lastServedStale;
+
+    private ForecastSnapshot(List<ForecastPeriod> periods, List<WeatherPeriod> forecast, long version,
+                             Long staleAgeSeconds) {
+        this.periods = periods;
+        this.forecast = forecast;
+        this.version = version;
+        this.staleAgeSeconds = staleAgeSeconds;
+    }
+
+    static ForecastSnapshot fromDocument(ForecastResponse forecastData) {
+        if (forecastData == null || forecastData.properties() == null) {
+            throw new WeatherServerException("Unable to get weather forecast", "NWS_FORECAST_ERROR", "fetchForecast");
+        }
+
+        List<ForecastPeriod> periods = forecastData.properties().periods();
+        if (periods == null) {
+            periods = List.of();
+        }
+        return new ForecastSnapshot(List.copyOf(periods), periods.stream()
+            .map(WeatherResults::forecastPeriod)
+            .toList(), VERSIONS.incrementAndGet(), null);
+    }
+
+    /**
+     * This snapshot served past its freshness, {@code dataAgeSeconds} after upstream last confirmed it,
+     * rounded down to {@link #STALE_AGE_STEP_SECONDS}. The forecast periods carry the stale marker.
+     * The copy is reused for as long as the rounded age stays the same.
+     */
+    ForecastSnapshot servedStale(long dataAgeSeconds) {
+        long reportedAge = dataAgeSeconds - dataAgeSeconds % STALE_AGE_STEP_SECONDS;
+        ForecastSnapshot stale = lastServedStale;
+        if (stale != null && stale.staleAgeSeconds == reportedAge) {
+            return stale;
+        }
+        stale = new ForecastSnapshot(periods, forecast.stream()
+            .map(period -> period.withDataAge(reportedAge))
+            .toList(), version, reportedAge);
+        lastServedStale = stale;
+        return stale;
+    }
+
+    /**
+     * The decoded upstream periods, the first being the current conditions.
+     */
+    List<ForecastPeriod> periods() {
+        return periods;
+    }
+
+    /**
+     * The {@code GetWeatherForecast} projection of {@link #periods()}.
+     */
+    List<WeatherPeriod> forecast() {
+        return forecast;
+    }
+
+    long version() {
+        return version;
+    }
+
+    Long staleAgeSeconds() {
+        return staleAgeSeconds;
+    }
+
+    /**
+     * The period covering now, or empty when the grid has no forecast periods.
+     */
+    Optional<ForecastPeriod> current() {
+        return periods.isEmpty() ? Optional.empty() : Optional.of(periods.get(0));
+    }
+}
@@ -0,0 +1,17 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.time.Instant;
+
+/**
+ * What the REST layer needs to cache a city's forecast-based responses: the version of the forecast snapshot
+ * they are rendered from, the minute-rounded age it is served stale at ({@code null} while fresh), until when upstream considers that forecast fresh (without the local
+ * {@code min-fresh} extension, which only this server may rely on), and the upstream
+ * {@code Last-Modified} value, which is {@code null} when upstream sent none.
+ */
+public record ForecastValidity(
+    long version,
+    Long staleAgeSeconds,
+    Instant freshUntil,
+    String lastModified
+) {
+}
@@ -0,0 +1,27 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.GeocodingResult;
+
+/**
+ * The first Open-Meteo geocoding match for a city name.
+ */
+public record GeocodedCity(
+    String name,
+    double latitude,
+    double longitude,
+    String country,
+    String state,
+    String timezone
+) {
+
+    static GeocodedCity fromResult(GeocodingResult result) {
+        return new GeocodedCity(
+            result.name(),
+            result.latitude(),
+            result.longitude(),
+            result.country(),
+            result.admin1() != null ? result.admin1() : "",
+            result.timezone() != null ? result.timezone() : ""
+        );
+    }
+}
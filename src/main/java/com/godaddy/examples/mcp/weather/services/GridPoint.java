@@ -0,0 +1,47 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.PointProperties;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.RelativeLocationProperties;
+
+/**
+ * The parts of an NWS {@code /points/{lat},{lon}} response the tools rely on.
+ * Grid assignments are effectively static, so instances are safe to cache. {@code zones} are the URLs of
+ * the forecast, county and fire weather zones containing the point.
+ */
+public record GridPoint(
+    String forecastUrl,
+    String gridId,
+    Integer gridX,
+    Integer gridY,
+    String timeZone,
+    String city,
+    String state,
+    List<String> zones
+) {
+
+    static GridPoint fromProperties(PointProperties properties) {
+        String city = "Unknown";
+        String state = "Unknown";
+        if (properties.relativeLocation() != null && properties.relativeLocation().properties() != null) {
+            RelativeLocationProperties location = properties.relativeLocation().properties();
+            city = location.city();
+            state = location.state();
+        }
+        return new GridPoint(
+            properties.forecast(),
+            properties.gridId(),
+            properties.gridX(),
+            properties.gridY(),
+            properties.timeZone(),
+            city,
+            state,
+            Stream.of(properties.forecastZone(), properties.county(), properties.fireWeatherZone())
+                .filter(Objects::nonNull)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.godaddy.examples.mcp.weather.services;
+
+/**
+ * {@code GetLocationInfo} result: the NWS grid and nearest place for a coordinate.
+ */
+public record LocationInfo(
+    String city,
+    String state,
+    String gridId,
+    Integer gridX,
+    Integer gridY,
+    String timeZone
+) {
+}
@@ -0,0 +1,319 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import com.godaddy.examples.mcp.weather.cache.CacheStats;
+import com.godaddy.examples.mcp.weather.cache.ExpiringCache;
+import com.godaddy.examples.mcp.weather.config.WeatherBatchProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.AlertsResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.GeocodingResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.PointsResponse;
+import com.godaddy.examples.mcp.weather.services.WeatherBatches.BatchPoint;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+/**
+ * Non-blocking counterpart of {@link WeatherService} backed by {@link WebClient}.
+ * Every public method mirrors the {@code @Tool} method of the same name and signature and emits the
+ * same result, so the MCP tool schemas can be taken from {@link WeatherService} while the calls run
+ * here without holding a thread per in-flight upstream request.
+ */
+@Slf4j
+public class ReactiveWeatherService {
+
+    private final WebClient webClient;
+    private final ExpiringCache<String, GridPoint> gridPointCache;
+    private final ExpiringCache<String, Optional<GeocodedCity>> geocodingCache;
+    private final WeatherCacheProperties.Spec geocodingSpec;
+    private final ExpiringCache<String, ForecastSnapshot> forecastCache;
+    private final WeatherBatchProperties batchProperties;
+    private final UpstreamUrls upstreamUrls;
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    public ReactiveWeatherService(WebClient webClient, WeatherCacheProperties cacheProperties,
+                                  WeatherBatchProperties batchProperties, WeatherUpstreamProperties upstreamProperties) {
+        this.webClient = webClient;
+        this.upstreamUrls = new UpstreamUrls(upstreamProperties);
+        this.batchProperties = batchProperties;
+        this.gridPointCache = new ExpiringCache<>("gridPoints",
+            cacheProperties.getGridPoints().getMaxSize(), cacheProperties.getGridPoints().getTtl());
+        this.geocodingSpec = cacheProperties.getGeocoding();
+        this.geocodingCache = new ExpiringCache<>("geocoding", geocodingSpec.getMaxSize(), geocodingSpec.getTtl());
+        // Without conditional requests on this path, snapshots are only kept for the minimum freshness window
+        this.forecastCache = new ExpiringCache<>("forecasts",
+            cacheProperties.getForecasts().getMaxSize(), cacheProperties.getForecasts().getMinFresh());
+    }
+
+    public Mono<CurrentWeather> getCurrentWeather(double latitude, double longitude) {
+        return resolveGridPoint(latitude, longitude, "getCurrentWeather")
+            .flatMap(this::fetchForecast)
+            .map(snapshot -> snapshot.current()
+                .map(currentPeriod -> WeatherResults.currentConditions(latitude, longitude, currentPeriod))
+                .orElseThrow(() -> new WeatherServerException("No weather data available", "NO_WEATHER_DATA", "getCurrentWeather")))
+            .onErrorMap(e -> failure("Failed to fetch weather data: ", "WEATHER_FETCH_ERROR", "getCurrentWeather", e));
+    }
+
+    public Mono<List<WeatherPeriod>> getWeatherForecast(double latitude, double longitude) {
+        return resolveGridPoint(latitude, longitude, "getWeatherForecast")
+            .flatMap(this::fetchForecast)
+            .map(ForecastSnapshot::forecast)
+            .onErrorMap(e -> failure("Failed to fetch forecast data: ", "FORECAST_FETCH_ERROR", "getWeatherForecast", e));
+    }
+
+    public Mono<List<?>> getWeatherForecast(double latitude, double longitude, Integer days, String fields) {
+        return Mono.fromCallable(() -> {
+                WeatherService.checkForecastDays(days);
+                return ForecastFields.parse(fields);
+            })
+            .flatMap(selection -> getWeatherForecast(latitude, longitude)
+                .map(forecast -> selection.select(WeatherResults.firstDays(forecast, days))));
+    }
+
+    public Mono<List<WeatherAlert>> getWeatherAlerts(double latitude, double longitude) {
+        String alertsUrl = upstreamUrls.alerts(latitude, longitude);
+        return shared(alertsUrl, () -> fetchJson(alertsUrl, AlertsResponse.class)
+                .map(WeatherService::projectAlerts)
+                .defaultIfEmpty(List.of()))
+            .onErrorResume(e -> {
+                log.error("Error fetching weather alerts for coordinates {}, {}: {}", latitude, longitude, e.getMessage());
+                return Mono.just(List.of()); // Return empty list if there's an error
+            });
+    }
+
+    public Mono<LocationInfo> getLocationInfo(double latitude, double longitude) {
+        return resolveGridPoint(latitude, longitude, "getLocationInfo")
+            .map(WeatherResults::locationInfo)
+            .onErrorMap(e -> failure("Failed to fetch location information: ", "LOCATION_FETCH_ERROR", "getLocationInfo", e));
+    }
+
+    public Mono<CityWeather> getCurrentWeatherByCity(String cityName) {
+        return getCityCoordinates(cityName)
+            .flatMap(coordinates -> {
+                double latitude = coordinates.latitude();
+                double longitude = coordinates.longitude();
+                return getCurrentWeather(latitude, longitude)
+                    .map(weather -> WeatherResults.currentConditionsForCity(weather, cityName, latitude, longitude));
+            })
+            .onErrorMap(e -> failure("Failed to fetch weather data for " + cityName + ": ",
+                "CITY_WEATHER_ERROR", "getCurrentWeatherByCity", e));
+    }
+
+    public Mono<List<CityForecastPeriod>> getWeatherForecastByCity(String cityName) {
+        return getWeatherForecastByCity(cityName, null);
+    }
+
+    public Mono<List<CityForecastPeriod>> getWeatherForecastByCity(String cityName, Integer days) {
+        return getCityCoordinates(cityName)
+            .flatMap(coordinates -> getWeatherForecast(coordinates.latitude(), coordinates.longitude()))
+            .map(forecast -> WeatherResults.forecastForCity(WeatherResults.firstDays(forecast, days), cityName))
+            .onErrorMap(e -> failure("Failed to fetch forecast data for " + cityName + ": ",
+                "CITY_FORECAST_ERROR", "getWeatherForecastByCity", e));
+    }
+
+    public Mono<List<?>> getWeatherForecastByCity(String cityName, Integer days, String fields) {
+        return Mono.fromCallable(() -> {
+                WeatherService.checkForecastDays(days);
+                return ForecastFields.parse(fields);
+            })
+            .flatMap(selection -> getWeatherForecastByCity(cityName, days).map(selection::selectForCity));
+    }
+
+    public Mono<List<CityAlert>> getWeatherAlertsByCity(String cityName) {
+        return getCityCoordinates(cityName)
+            .flatMap(coordinates -> getWeatherAlerts(coordinates.latitude(), coordinates.longitude()))
+            .map(alerts -> WeatherResults.alertsForCity(alerts, cityName))
+            .onErrorResume(e -> {
+                log.error("Error fetching weather alerts for city {}: {}", cityName, e.getMessage());
+                return Mono.just(List.of()); // Return empty list if there's an error
+            });
+    }
+
+    public Mono<CityCoordinates> getCityCoordinates(String cityName) {
+        return Mono.defer(() -> {
+                String cacheKey = WeatherService.normalizeCityName(cityName);
+                Mono<Optional<GeocodedCity>> match = geocodingCache.get(cacheKey)
+                    .map(Mono::just)
+                    .orElseGet(() -> lookupCity(cityName.trim())
+                        .doOnNext(found -> geocodingCache.put(cacheKey, found,
+                            found.isPresent() ? geocodingSpec.getTtl() : geocodingSpec.getNegativeTtl())));
+                return match;
+            })
+            .map(match -> match.orElseThrow(() ->
+                new WeatherServerException("City not found: " + cityName, "CITY_NOT_FOUND", "getCityCoordinates")))
+            .map(WeatherResults::coordinates)
+            .onErrorMap(e -> failure("Failed to find coordinates for " + cityName + ": ",
+                "COORDINATES_ERROR", "getCityCoordinates", e));
+    }
+
+    public Mono<CityWeatherBundle> getCityWeatherBundle(String cityName) {
+        return getCityCoordinates(cityName)
+            .flatMap(coordinates -> {
+                double latitude = coordinates.latitude();
+                double longitude = coordinates.longitude();
+                Mono<Tuple2<GridPoint, ForecastSnapshot>> forecast =
+                    resolveGridPoint(latitude, longitude, "getCityWeatherBundle")
+                        .flatMap(gridPoint -> fetchForecast(gridPoint).map(snapshot -> Tuples.of(gridPoint, snapshot)));
+                return Mono.zip(forecast, getWeatherAlerts(latitude, longitude))
+                    .map(results -> {
+                        ForecastSnapshot snapshot = results.getT1().getT2();
+                        if (snapshot.current().isEmpty()) {
+                            throw new WeatherServerException("No weather data available", "NO_WEATHER_DATA", "getCityWeatherBundle");
+                        }
+                        return WeatherResults.bundle(cityName, latitude, longitude, results.getT1().getT1(), snapshot, results.getT2());
+                    });
+            })
+            .onErrorMap(e -> failure("Failed to fetch weather bundle for " + cityName + ": ",
+                "CITY_BUNDLE_ERROR", "getCityWeatherBundle", e));
+    }
+
+    public Mono<List<BatchResult<CurrentWeather>>> getCurrentWeatherBatch(List<BatchLocation> locations) {
+        return runBatch(locations, "getCurrentWeatherBatch", (point, snapshot) -> snapshot.current()
+            .map(currentPeriod -> WeatherResults.currentConditions(point.latitude(), point.longitude(), currentPeriod))
+            .orElseThrow(() -> new WeatherServerException("No weather data available", "NO_WEATHER_DATA", "getCurrentWeatherBatch")));
+    }
+
+    public Mono<List<BatchResult<List<?>>>> getWeatherForecastBatch(List<BatchLocation> locations, Integer days, String fields) {
+        return Mono.fromCallable(() -> {
+                WeatherService.checkForecastDays(days);
+                return ForecastFields.parse(fields);
+            })
+            .flatMap(selection -> runBatch(locations, "getWeatherForecastBatch",
+                (point, snapshot) -> selection.select(WeatherResults.firstDays(snapshot.forecast(), days))));
+    }
+
+    /**
+     * Same two rounds as the blocking batch: distinct locations are resolved, then each distinct grid
+     * forecast is fetched once, at most {@code weather.batch.parallelism} requests in flight per round.
+     * Outcomes are materialized so a failing location only fails its own result.
+     */
+    private <T> Mono<List<BatchResult<T>>> runBatch(List<BatchLocation> locations, String operation,
+                                                    BiFunction<BatchPoint, ForecastSnapshot, T> project) {
+        return Mono.defer(() -> {
+            WeatherBatches.checkSize(locations, batchProperties.getMaxLocations(), operation);
+            Map<String, BatchLocation> distinct = WeatherBatches.distinct(locations);
+            int parallelism = batchProperties.getParallelism();
+            return Flux.fromIterable(distinct.entrySet())
+                .flatMap(entry -> resolveBatchPoint(entry.getValue(), operation).materialize()
+                    .map(signal -> Map.entry(entry.getKey(), signal)), parallelism)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .flatMap(points -> {
+                    Map<String, GridPoint> grids = new LinkedHashMap<>();
+                    points.values().stream()
+                        .filter(Signal::isOnNext)
+                        .map(Signal::get)
+                        .forEach(point -> grids.putIfAbsent(point.gridPoint().forecastUrl(), point.gridPoint()));
+                    return Flux.fromIterable(grids.entrySet())
+                        .flatMap(grid -> fetchForecast(grid.getValue()).materialize()
+                            .map(signal -> Map.entry(grid.getKey(), signal)), parallelism)
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                        .map(snapshots -> WeatherBatches.results(locations, operation,
+                            key -> value(points.get(key)), forecastUrl -> value(snapshots.get(forecastUrl)), project));
+                });
+        });
+    }
+
+    private Mono<BatchPoint> resolveBatchPoint(BatchLocation location, String operation) {
+        if (location.isCity()) {
+            return getCityCoordinates(location.city())
+                .flatMap(coordinates -> resolveGridPoint(coordinates.latitude(), coordinates.longitude(), operation)
+                    .map(gridPoint -> new BatchPoint(coordinates.latitude(), coordinates.longitude(), gridPoint)));
+        }
+        return resolveGridPoint(location.latitude(), location.longitude(), operation)
+            .map(gridPoint -> new BatchPoint(location.latitude(), location.longitude(), gridPoint));
+    }
+
+    private static <T> T value(Signal<T> signal) {
+        if (signal.isOnError()) {
+            throw Exceptions.propagate(signal.getThrowable());
+        }
+        return signal.get();
+    }
+
+    /**
+     * Hit, miss and eviction counters for the caches owned by the reactive path, keyed by cache name.
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put(gridPointCache.getName(), gridPointCache.stats());
+        stats.put(geocodingCache.getName(), geocodingCache.stats());
+        stats.put(forecastCache.getName(), forecastCache.stats());
+        return stats;
+    }
+
+    private Mono<GridPoint> resolveGridPoint(double latitude, double longitude, String operation) {
+        String coordinateKey = WeatherService.coordinateKey(latitude, longitude);
+        return Mono.defer(() -> gridPointCache.get(coordinateKey)
+            .map(Mono::just)
+            .orElseGet(() -> {
+                String pointUrl = upstreamUrls.points(coordinateKey);
+                return shared(pointUrl, () -> fetchJson(pointUrl, PointsResponse.class)
+                        .filter(pointData -> pointData.properties() != null)
+                        .map(WeatherService::projectGridPoint)
+                        .switchIfEmpty(Mono.error(() -> new WeatherServerException(
+                            "Unable to get grid point information", "NWS_GRID_ERROR", operation))))
+                    .doOnNext(gridPoint -> gridPointCache.put(coordinateKey, gridPoint));
+            }));
+    }
+
+    private Mono<ForecastSnapshot> fetchForecast(GridPoint gridPoint) {
+        String forecastUrl = gridPoint.forecastUrl();
+        return Mono.defer(() -> forecastCache.get(forecastUrl)
+            .map(Mono::just)
+            .orElseGet(() -> shared(forecastUrl, () -> fetchJson(forecastUrl, ForecastResponse.class)
+                    .map(ForecastSnapshot::fromDocument)
+                    .switchIfEmpty(Mono.error(() -> new WeatherServerException(
+                        "Unable to get weather forecast", "NWS_FORECAST_ERROR", "fetchForecast"))))
+                .doOnNext(snapshot -> forecastCache.put(forecastUrl, snapshot))));
+    }
+
+    private Mono<Optional<GeocodedCity>> lookupCity(String cityName) {
+        String geocodingUrl = upstreamUrls.geocoding(cityName);
+        log.debug("Geocoding URL for {}: {}", cityName, geocodingUrl);
+        return shared(geocodingUrl, () -> fetchJson(geocodingUrl, GeocodingResponse.class)
+            .map(WeatherService::projectFirstMatch)
+            .switchIfEmpty(Mono.error(() -> new WeatherServerException(
+                "Unable to geocode city: " + cityName, "GEOCODING_ERROR", "getCityCoordinates"))));
+    }
+
+    private <T> Mono<T> fetchJson(String url, Class<T> type) {
+        // The URLs are already encoded; URI.create keeps WebClient from encoding them again
+        return webClient.get()
+            .uri(URI.create(url))
+            .retrieve()
+            .bodyToMono(type);
+    }
+
+    /**
+     * Reactive counterpart of {@link com.godaddy.examples.mcp.weather.cache.SingleFlight}: subscribers
+     * that arrive while a call for {@code key} is in flight share its result instead of issuing their own.
+     */
+    @SuppressWarnings("unchecked")
+    private <V> Mono<V> shared(String key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> (Mono<V>) inFlight.computeIfAbsent(key, k -> call.get()
+            .doFinally(signal -> inFlight.remove(k))
+            .cache()));
+    }
+
+    private static WeatherServerException failure(String prefix, String errorCode, String operation, Throwable e) {
+        String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return new WeatherServerException(prefix + errorMsg, errorCode, operation, e);
+    }
+}
@@ -0,0 +1,135 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Typed views of the NWS and Open-Meteo responses, declaring only the fields the tools return.
+ * Jackson binds these straight from the token stream and skips every other field, nested object and
+ * array without building it, so the large GeoJSON payloads never become a tree of maps.
+ */
+final class UpstreamPayloads {
+
+    private UpstreamPayloads() {
+    }
+
+    /**
+     * NWS {@code /points/{lat},{lon}}.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record PointsResponse(PointProperties properties) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record PointProperties(
+        String forecast,
+        String gridId,
+        Integer gridX,
+        Integer gridY,
+        String timeZone,
+        RelativeLocation relativeLocation,
+        String forecastZone,
+        String county,
+        String fireWeatherZone
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record RelativeLocation(RelativeLocationProperties properties) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record RelativeLocationProperties(String city, String state) {
+    }
+
+    /**
+     * NWS {@code /gridpoints/{office}/{x},{y}/forecast}.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ForecastResponse(ForecastProperties properties) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ForecastProperties(List<ForecastPeriod> periods) {
+    }
+
+    /**
+     * {@code temperature} stays a {@link Number} so it renders exactly as upstream sent it.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ForecastPeriod(
+        String name,
+        Number temperature,
+        String temperatureUnit,
+        String windSpeed,
+        String windDirection,
+        String shortForecast,
+        String detailedForecast,
+        @JsonProperty("isDaytime") Boolean isDaytime
+    ) {
+    }
+
+    /**
+     * NWS {@code /alerts/active}.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record AlertsResponse(List<AlertFeature> features) {
+    }
+
+    /**
+     * {@code geometry} is the alert polygon, or {@code null} when the alert only names its {@code affectedZones}.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record AlertFeature(AlertProperties properties, Geometry geometry) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record AlertProperties(
+        String event,
+        String headline,
+        String description,
+        String severity,
+        String urgency,
+        String areaDesc,
+        String effective,
+        String expires,
+        List<String> affectedZones
+    ) {
+    }
+
+    /**
+     * NWS {@code /zones/{type}/{zoneId}}.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ZoneResponse(Geometry geometry) {
+    }
+
+    /**
+     * GeoJSON geometry. {@code coordinates} nests three or four levels deep depending on {@code type}, so it is
+     * the one field kept as a tree; it is only read when alerts are indexed.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Geometry(String type, JsonNode coordinates) {
+    }
+
+    /**
+     * Open-Meteo {@code /v1/search}.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record GeocodingResponse(List<GeocodingResult> results) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record GeocodingResult(
+        String name,
+        double latitude,
+        double longitude,
+        String country,
+        String admin1,
+        String timezone
+    ) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
+
+/**
+ * Request URLs for the NWS points and alerts endpoints and the Open-Meteo geocoder, built from
+ * {@link WeatherUpstreamProperties}. Forecast and zone URLs are not built here; NWS hands them out in the
+ * points and alerts responses.
+ */
+final class UpstreamUrls {
+
+    private final String nwsBaseUrl;
+    private final String geocodingUrl;
+
+    UpstreamUrls(WeatherUpstreamProperties properties) {
+        this.nwsBaseUrl = stripTrailingSlash(properties.getNwsBaseUrl());
+        this.geocodingUrl = stripTrailingSlash(properties.getGeocodingUrl());
+    }
+
+    String points(String coordinateKey) {
+        return String.format("%s/points/%s", nwsBaseUrl, coordinateKey);
+    }
+
+    String activeAlerts() {
+        return nwsBaseUrl + "/alerts/active";
+    }
+
+    String alerts(double latitude, double longitude) {
+        return String.format("%s/alerts/active?point=%.4f,%.4f", nwsBaseUrl, latitude, longitude);
+    }
+
+    String geocoding(String cityName) {
+        String encodedCityName = URLEncoder.encode(cityName, StandardCharsets.UTF_8);
+        return String.format("%s?name=%s&count=1&language=en&format=json", geocodingUrl, encodedCityName);
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
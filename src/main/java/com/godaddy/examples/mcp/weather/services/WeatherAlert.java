@@ -0,0 +1,16 @@
+package com.godaddy.examples.mcp.weather.services;
+
+/**
+ * One {@code GetWeatherAlerts} entry; {@code areas} is the NWS {@code areaDesc}.
+ */
+public record WeatherAlert(
+    String event,
+    String headline,
+    String description,
+    String severity,
+    String urgency,
+    String areas,
+    String effective,
+    String expires
+) {
+}
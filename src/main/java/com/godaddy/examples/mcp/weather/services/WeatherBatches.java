@@ -0,0 +1,90 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+
+/**
+ * The request-shaping half of the batch tools, shared by the blocking and reactive implementations:
+ * validating a batch, collapsing it to distinct points and turning per-point outcomes back into one
+ * result per requested location.
+ */
+final class WeatherBatches {
+
+    private WeatherBatches() {
+    }
+
+    /**
+     * A resolved batch location: the coordinate its results are reported for and the NWS grid it falls in.
+     */
+    record BatchPoint(double latitude, double longitude, GridPoint gridPoint) {
+    }
+
+    static void checkSize(List<BatchLocation> locations, int maxLocations, String operation) {
+        int size = locations == null ? 0 : locations.size();
+        if (size == 0 || size > maxLocations) {
+            throw new WeatherServerException("A batch takes 1 to " + maxLocations + " locations, got " + size,
+                "INVALID_BATCH", operation);
+        }
+    }
+
+    /**
+     * The valid locations by {@link BatchLocation#key()}, first occurrence wins, in request order.
+     */
+    static Map<String, BatchLocation> distinct(List<BatchLocation> locations) {
+        Map<String, BatchLocation> distinct = new LinkedHashMap<>();
+        for (BatchLocation location : locations) {
+            if (location != null && location.isValid()) {
+                distinct.putIfAbsent(location.key(), location);
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * One result per requested location, in request order. {@code points} looks a resolved point up by location
+     * key and {@code snapshots} a forecast by grid forecast URL; either may throw, which fails only that location.
+     */
+    static <T> List<BatchResult<T>> results(List<BatchLocation> locations, String operation,
+                                            Function<String, BatchPoint> points,
+                                            Function<String, ForecastSnapshot> snapshots,
+                                            BiFunction<BatchPoint, ForecastSnapshot, T> project) {
+        return locations.stream()
+            .map(location -> {
+                try {
+                    if (location == null || !location.isValid()) {
+                        throw new WeatherServerException("A batch location needs either a city or a latitude and longitude",
+                            "INVALID_LOCATION", operation);
+                    }
+                    BatchPoint point = points.apply(location.key());
+                    ForecastSnapshot snapshot = snapshots.apply(point.gridPoint().forecastUrl());
+                    return new BatchResult<>(location, project.apply(point, snapshot), null);
+                } catch (RuntimeException e) {
+                    return new BatchResult<T>(location, null, error(e));
+                }
+            })
+            .toList();
+    }
+
+    /**
+     * The innermost {@link WeatherServerException} names the most specific cause, e.g. {@code CITY_NOT_FOUND}
+     * rather than the {@code COORDINATES_ERROR} wrapping it.
+     */
+    static BatchError error(Throwable failure) {
+        WeatherServerException innermost = null;
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WeatherServerException weatherServerException) {
+                innermost = weatherServerException;
+            }
+        }
+        if (innermost != null) {
+            return new BatchError(innermost.getErrorCode(), innermost.getMessage());
+        }
+        String message = failure.getMessage() != null ? failure.getMessage() : failure.getClass().getSimpleName();
+        return new BatchError("BATCH_ITEM_ERROR", message);
+    }
+}
@@ -0,0 +1,156 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.godaddy.examples.mcp.weather.config.WeatherBatchProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherWarmupProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps geocoding, grid point and forecast data hot for the cities dashboards ask for first.
+ * Once the application is up, every city is loaded through the batch path; after that one city is
+ * refreshed at a time, spaced evenly over {@code weather.warmup.refresh-interval}, so upstream never sees
+ * a burst. Reports {@code OUT_OF_SERVICE} until all but {@code weather.warmup.max-failed-fraction} of the
+ * cities have loaded, which keeps the readiness probe down while the caches are cold or upstream is failing;
+ * once up it stays up. With {@code weather.warmup.enabled=false} nothing is scheduled and the indicator is
+ * always up.
+ */
+@Component
+@Slf4j
+public class WeatherCacheWarmer implements HealthIndicator, DisposableBean {
+
+    private final WeatherService weatherService;
+    private final WeatherWarmupProperties warmupProperties;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger nextCity = new AtomicInteger();
+    private final Set<String> loadedCities = ConcurrentHashMap.newKeySet();
+    private volatile boolean warm;
+
+    @Autowired
+    public WeatherCacheWarmer(WeatherService weatherService, WeatherWarmupProperties warmupProperties,
+                              WeatherBatchProperties batchProperties) {
+        this(weatherService, warmupProperties, batchProperties, Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    WeatherCacheWarmer(WeatherService weatherService, WeatherWarmupProperties warmupProperties,
+                       WeatherBatchProperties batchProperties, ScheduledExecutorService scheduler) {
+        this.weatherService = weatherService;
+        this.warmupProperties = warmupProperties;
+        this.batchSize = batchProperties.getMaxLocations();
+        this.scheduler = scheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!warmupProperties.isEnabled()) {
+            warm = true;
+            return;
+        }
+        long spacing = Math.max(1, refreshSpacing().toMillis());
+        scheduler.execute(this::warmUp);
+        scheduler.scheduleWithFixedDelay(this::refreshNext, spacing, spacing, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Load every city through the batch tool, so repeated grids are fetched once and upstream calls stay
+     * within {@code weather.batch.parallelism}. Cities that fail are counted and retried by the refresh.
+     */
+    void warmUp() {
+        long started = System.nanoTime();
+        List<String> cities = cities();
+        try {
+            for (int from = 0; from < cities.size(); from += batchSize) {
+                List<BatchLocation> locations = cities.subList(from, Math.min(cities.size(), from + batchSize)).stream()
+                    .map(BatchLocation::ofCity)
+                    .toList();
+                weatherService.getCurrentWeatherBatch(locations).stream()
+                    .filter(result -> result.error() == null)
+                    .forEach(result -> loadedCities.add(result.location().city()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cache warm-up stopped early: {}", e.getMessage());
+        }
+        updateReadiness();
+        log.info("Warmed caches for {} cities ({} failed) in {} ms", cities.size(), failedCities(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * Revalidate the next city in turn; resolving its forecast validity touches its geocoding, grid point
+     * and forecast entries.
+     */
+    void refreshNext() {
+        List<String> cities = cities();
+        if (cities.isEmpty()) {
+            return;
+        }
+        String city = cities.get(Math.floorMod(nextCity.getAndIncrement(), cities.size()));
+        try {
+            if (weatherService.getForecastValidity(city).isEmpty()) {
+                log.debug("Background refresh found no forecast for {}", city);
+            } else if (loadedCities.add(city)) {
+                updateReadiness();
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the schedule
+            log.warn("Background refresh failed for {}: {}", city, e.getMessage());
+        }
+    }
+
+    /**
+     * Go up once few enough cities are missing; a city loaded once stays counted, so readiness does not flap
+     * with upstream hiccups after startup.
+     */
+    private void updateReadiness() {
+        if (!warm && failedCities() <= cities().size() * warmupProperties.getMaxFailedFraction()) {
+            warm = true;
+        }
+    }
+
+    private int failedCities() {
+        return Math.max(0, cities().size() - loadedCities.size());
+    }
+
+    Duration refreshSpacing() {
+        return warmupProperties.getRefreshInterval().dividedBy(Math.max(1, cities().size()));
+    }
+
+    private List<String> cities() {
+        List<String> configured = warmupProperties.getCities();
+        return configured.isEmpty() ? weatherService.getSupportedCities() : configured;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = warm ? Health.up() : Health.outOfService();
+        return health.withDetail("cities", cities().size())
+            .withDetail("failedCities", failedCities())
+            .withDetail("refreshSpacing", refreshSpacing().toString())
+            .build();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
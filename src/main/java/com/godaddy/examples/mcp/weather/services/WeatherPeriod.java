@@ -0,0 +1,31 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One {@code GetWeatherForecast} entry. {@code stale} and {@code dataAgeSeconds} are only present
+ * when the forecast is served past its freshness.
+ */
+public record WeatherPeriod(
+    String name,
+    String temperature,
+    String windSpeed,
+    String windDirection,
+    String shortForecast,
+    String detailedForecast,
+    @JsonProperty("isDaytime") Boolean isDaytime,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Boolean stale,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long dataAgeSeconds
+) {
+
+    public WeatherPeriod(String name, String temperature, String windSpeed, String windDirection,
+                         String shortForecast, String detailedForecast, Boolean isDaytime) {
+        this(name, temperature, windSpeed, windDirection, shortForecast, detailedForecast, isDaytime, null, null);
+    }
+
+    WeatherPeriod withDataAge(long dataAgeSeconds) {
+        return new WeatherPeriod(name, temperature, windSpeed, windDirection, shortForecast, detailedForecast,
+            isDaytime, true, dataAgeSeconds);
+    }
+}
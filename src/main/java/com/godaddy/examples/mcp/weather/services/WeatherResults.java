@@ -0,0 +1,127 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import java.util.List;
+
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.AlertProperties;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastPeriod;
+
+/**
+ * Builds the tool results from upstream data, shared by the blocking and reactive tool implementations
+ * so both return the same JSON.
+ */
+final class WeatherResults {
+
+    private WeatherResults() {
+    }
+
+    static CurrentWeather currentConditions(double latitude, double longitude, ForecastPeriod period) {
+        return new CurrentWeather(
+            coordinates(latitude, longitude),
+            period.name(),
+            temperature(period),
+            period.windSpeed(),
+            period.windDirection(),
+            period.shortForecast(),
+            period.detailedForecast()
+        );
+    }
+
+    static WeatherPeriod forecastPeriod(ForecastPeriod period) {
+        return new WeatherPeriod(
+            period.name(),
+            temperature(period),
+            period.windSpeed(),
+            period.windDirection(),
+            period.shortForecast(),
+            period.detailedForecast(),
+            period.isDaytime()
+        );
+    }
+
+    static WeatherAlert alert(AlertProperties properties) {
+        return new WeatherAlert(
+            properties.event(),
+            properties.headline(),
+            properties.description(),
+            properties.severity(),
+            properties.urgency(),
+            properties.areaDesc(),
+            properties.effective(),
+            properties.expires()
+        );
+    }
+
+    static LocationInfo locationInfo(GridPoint gridPoint) {
+        return new LocationInfo(
+            gridPoint.city(),
+            gridPoint.state(),
+            gridPoint.gridId(),
+            gridPoint.gridX(),
+            gridPoint.gridY(),
+            gridPoint.timeZone()
+        );
+    }
+
+    static CityCoordinates coordinates(GeocodedCity city) {
+        return new CityCoordinates(
+            city.name(),
+            city.latitude(),
+            city.longitude(),
+            city.country(),
+            city.state(),
+            city.timezone()
+        );
+    }
+
+    static CityWeather currentConditionsForCity(CurrentWeather weather, String cityName,
+                                                double latitude, double longitude) {
+        return new CityWeather(weather, cityName, coordinates(latitude, longitude));
+    }
+
+    /**
+     * Everything the per-city tools return: current conditions from the first forecast period,
+     * the full forecast, active alerts and the NWS location. The snapshot must have a current period.
+     */
+    static CityWeatherBundle bundle(String cityName, double latitude, double longitude, GridPoint gridPoint,
+                                    ForecastSnapshot snapshot, List<WeatherAlert> alerts) {
+        return new CityWeatherBundle(
+            cityName,
+            coordinates(latitude, longitude),
+            locationInfo(gridPoint),
+            currentConditions(latitude, longitude, snapshot.periods().get(0)).withDataAge(snapshot.staleAgeSeconds()),
+            snapshot.forecast(),
+            alerts
+        );
+    }
+
+    /**
+     * The periods covering the first {@code days} days, two 12-hour periods per day, or all of them when
+     * {@code days} is null. A view of {@code periods}, so the periods left out are never copied, projected or serialized.
+     */
+    static <T> List<T> firstDays(List<T> periods, Integer days) {
+        if (days == null) {
+            return periods;
+        }
+        return periods.subList(0, Math.min(periods.size(), days * 2));
+    }
+
+    static List<CityForecastPeriod> forecastForCity(List<WeatherPeriod> forecast, String cityName) {
+        return forecast.stream()
+            .map(period -> new CityForecastPeriod(period, cityName))
+            .toList();
+    }
+
+    static List<CityAlert> alertsForCity(List<WeatherAlert> alerts, String cityName) {
+        return alerts.stream()
+            .map(alert -> new CityAlert(alert, cityName))
+            .toList();
+    }
+
+    private static String coordinates(double latitude, double longitude) {
+        return String.format("%.4f, %.4f", latitude, longitude);
+    }
+
+    private static String temperature(ForecastPeriod period) {
+        return period.temperature() + "°" + period.temperatureUnit();
+    }
+}
@@ -1,13 +1,45 @@
 package com.godaddy.examples.mcp.weather.services;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
+import com.godaddy.examples.mcp.weather.cache.CacheStats;
+import com.godaddy.examples.mcp.weather.cache.ExpiringCache;
+import com.godaddy.examples.mcp.weather.cache.SingleFlight;
+import com.godaddy.examples.mcp.weather.config.WeatherBatchProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
 import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import com.godaddy.examples.mcp.weather.http.RevalidatingFetcher;
+import com.godaddy.examples.mcp.weather.http.RevalidatingFetcher.Fetched;
+import com.godaddy.examples.mcp.weather.http.RevalidatingFetcher.RevalidationStats;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.AlertFeature;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.AlertsResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastPeriod;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.GeocodingResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.PointsResponse;
+import com.godaddy.examples.mcp.weather.services.WeatherBatches.BatchPoint;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -19,62 +51,78 @@ import lombok.extern.slf4j.Slf4j;
 public class WeatherService {
     
     private final RestTemplate restTemplate;
-    private static final String NWS_BASE_URL = "https://api.weather.gov";
-    private static final String GEOCODING_BASE_URL = "https://geocoding-api.open-meteo.com/v1/search";
+    private final ExpiringCache<String, GridPoint> gridPointCache;
+    private final ExpiringCache<String, Optional<GeocodedCity>> geocodingCache;
+    private final WeatherCacheProperties.Spec geocodingSpec;
+    private final RevalidatingFetcher<ForecastResponse, ForecastSnapshot> forecastFetcher;
+    private final RevalidatingFetcher<AlertsResponse, List<WeatherAlert>> alertsFetcher;
+    private final SingleFlight upstreamCalls = new SingleFlight();
+    private final Executor fanOutExecutor;
+    private final WeatherBatchProperties batchProperties;
+    private final UpstreamUrls upstreamUrls;
+    private final AlertIngester alertIngester;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    /**
+     * NWS grid forecasts cover seven days.
+     */
+    public static final int MAX_FORECAST_DAYS = 7;
+    private static final String DAYS_DESCRIPTION = "Optional number of days to return, 1 to 7; each day has "
+        + "a daytime and a nighttime period. Omit for the full forecast.";
+    private static final String FIELDS_DESCRIPTION = "Optional comma-separated forecast fields to return "
+        + "(name, temperature, windSpeed, windDirection, shortForecast, detailedForecast, isDaytime), "
+        + "or 'compact' for name, temperature, shortForecast and isDaytime. Omit for every field.";
+    private static final String LOCATIONS_DESCRIPTION = "Locations to look up; each has either a city name "
+        + "or a latitude and longitude";
     
-    public WeatherService(RestTemplate restTemplate) {
+    private static final Executor CALLING_THREAD = Runnable::run;
+    
+    /**
+     * Runs independent upstream calls of one tool invocation concurrently on {@code fanOutExecutor};
+     * Spring's application task executor, which uses virtual threads when they are enabled.
+     * Background revalidation of stale forecasts runs there too. With a null executor, fan-out work runs
+     * on the calling thread and stale forecasts are revalidated before answering. Alerts are answered from
+     * {@code alertIngester}'s index while it is current; with none, each point is asked upstream.
+     */
+    public WeatherService(RestTemplate restTemplate, WeatherCacheProperties cacheProperties,
+                          WeatherBatchProperties batchProperties, WeatherUpstreamProperties upstreamProperties,
+                          AlertIngester alertIngester,
+                          @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor fanOutExecutor) {
         this.restTemplate = restTemplate;
+        this.upstreamUrls = new UpstreamUrls(upstreamProperties);
+        this.alertIngester = alertIngester;
+        this.fanOutExecutor = fanOutExecutor != null ? fanOutExecutor : CALLING_THREAD;
+        this.batchProperties = batchProperties;
+        this.gridPointCache = new ExpiringCache<>("gridPoints",
+            cacheProperties.getGridPoints().getMaxSize(), cacheProperties.getGridPoints().getTtl());
+        this.geocodingSpec = cacheProperties.getGeocoding();
+        this.geocodingCache = new ExpiringCache<>("geocoding", geocodingSpec.getMaxSize(), geocodingSpec.getTtl());
+        this.forecastFetcher = new RevalidatingFetcher<>("forecasts", restTemplate, ForecastResponse.class,
+            ForecastSnapshot::fromDocument,
+            RevalidatingFetcher.Settings.of(cacheProperties.getForecasts()).withRefreshExecutor(fanOutExecutor));
+        this.alertsFetcher = new RevalidatingFetcher<>("alerts", restTemplate, AlertsResponse.class,
+            WeatherService::projectAlerts, RevalidatingFetcher.Settings.of(cacheProperties.getAlerts()));
     }
     
     // Coordinate-based tools
     @WithSpan("weather.getCurrentWeather")
     @Tool(name = "GetCurrentWeather", description = "Get current weather information for a specific location using latitude and longitude")
-    public Map<String, Object> getCurrentWeather(double latitude, double longitude) {
+    public CurrentWeather getCurrentWeather(double latitude, double longitude) {
+        return currentWeather(latitude, longitude).value();
+    }
+
+    private ForecastResult<CurrentWeather> currentWeather(double latitude, double longitude) {
         try {
             // First, get the grid point for the coordinates
-            String pointUrl = String.format("%s/points/%.4f,%.4f", NWS_BASE_URL, latitude, longitude);
-            log.debug("NWS points URL: {}", pointUrl);
+            GridPoint gridPoint = resolveGridPoint(latitude, longitude, "getCurrentWeather");
             
-            ResponseEntity<Map> pointResponse = restTemplate.getForEntity(pointUrl, Map.class);
-            log.debug("NWS points response status: {}", pointResponse.getStatusCode());
-            
-            if (pointResponse.getBody() == null) {
-                throw new WeatherServerException("Unable to get grid point information", "NWS_GRID_ERROR", "getCurrentWeather");
-            }
-            
-            Map<String, Object> pointData = pointResponse.getBody();
-            Map<String, Object> properties = (Map<String, Object>) pointData.get("properties");
-            String forecastUrl = (String) properties.get("forecast");
-            
-            // Get the current conditions from the forecast
-            ResponseEntity<Map> forecastResponse = restTemplate.getForEntity(forecastUrl, Map.class);
-            
-            if (forecastResponse.getBody() == null) {
-                throw new WeatherServerException("Unable to get weather forecast", "NWS_FORECAST_ERROR", "getCurrentWeather");
-            }
+            // Get the current conditions from the shared forecast snapshot
+            Fetched<ForecastSnapshot> forecast = fetchForecastWithValidity(gridPoint);
+            ForecastSnapshot snapshot = forecast.value();
+            ForecastPeriod currentPeriod = snapshot.current().orElseThrow(() ->
+                new WeatherServerException("No weather data available", "NO_WEATHER_DATA", "getCurrentWeather"));
             
-            Map<String, Object> forecastData = forecastResponse.getBody();
-            Map<String, Object> forecastProperties = (Map<String, Object>) forecastData.get("properties");
-            List<Map<String, Object>> periods = (List<Map<String, Object>>) forecastProperties.get("periods");
-            
-            if (periods.isEmpty()) {
-                throw new WeatherServerException("No weather data available", "NO_WEATHER_DATA", "getCurrentWeather");
-            }
-            
-            // Return the current period (first in the list)
-            Map<String, Object> currentPeriod = periods.get(0);
-            
-            // Use HashMap instead of Map.of() to create a mutable map
-            Map<String, Object> result = new java.util.HashMap<>();
-            result.put("location", String.format("%.4f, %.4f", latitude, longitude));
-            result.put("name", currentPeriod.get("name"));
-            result.put("temperature", currentPeriod.get("temperature") + "°" + currentPeriod.get("temperatureUnit"));
-            result.put("windSpeed", currentPeriod.get("windSpeed"));
-            result.put("windDirection", currentPeriod.get("windDirection"));
-            result.put("shortForecast", currentPeriod.get("shortForecast"));
-            result.put("detailedForecast", currentPeriod.get("detailedForecast"));
-            
-            return result;
+            return new ForecastResult<>(WeatherResults.currentConditions(latitude, longitude, currentPeriod)
+                .withDataAge(snapshot.staleAgeSeconds()), validity(forecast));
             
         } catch (Exception e) {
             log.error("Error fetching weather data for coordinates {}, {}: {}", latitude, longitude, e.getMessage(), e);
@@ -83,46 +131,28 @@ public class WeatherService {
         }
     }
 
-    @WithSpan("weather.getWeatherForecast")
     @Tool(name = "GetWeatherForecast", description = "Get extended weather forecast for a specific location using latitude and longitude")
-    public List<Map<String, Object>> getWeatherForecast(double latitude, double longitude) {
+    public List<?> getWeatherForecast(double latitude, double longitude,
+                                      @ToolParam(required = false, description = DAYS_DESCRIPTION) Integer days,
+                                      @ToolParam(required = false, description = FIELDS_DESCRIPTION) String fields) {
+        checkForecastDays(days);
+        ForecastFields selection = ForecastFields.parse(fields);
+        return selection.select(WeatherResults.firstDays(getWeatherForecast(latitude, longitude), days));
+    }
+
+    @WithSpan("weather.getWeatherForecast")
+    public List<WeatherPeriod> getWeatherForecast(double latitude, double longitude) {
+        return weatherForecast(latitude, longitude).value();
+    }
+
+    private ForecastResult<List<WeatherPeriod>> weatherForecast(double latitude, double longitude) {
         try {
             // Get grid point for coordinates
-            String pointUrl = String.format("%s/points/%.4f,%.4f", NWS_BASE_URL, latitude, longitude);
-            ResponseEntity<Map> pointResponse = restTemplate.getForEntity(pointUrl, Map.class);
-            
-            if (pointResponse.getBody() == null) {
-                throw new WeatherServerException("Unable to get grid point information", "NWS_GRID_ERROR", "getWeatherForecast");
-            }
-            
-            Map<String, Object> pointData = pointResponse.getBody();
-            Map<String, Object> properties = (Map<String, Object>) pointData.get("properties");
-            String forecastUrl = (String) properties.get("forecast");
-            
-            // Get the forecast
-            ResponseEntity<Map> forecastResponse = restTemplate.getForEntity(forecastUrl, Map.class);
-            
-            if (forecastResponse.getBody() == null) {
-                throw new WeatherServerException("Unable to get weather forecast", "NWS_FORECAST_ERROR", "getWeatherForecast");
-            }
+            GridPoint gridPoint = resolveGridPoint(latitude, longitude, "getWeatherForecast");
             
-            Map<String, Object> forecastData = forecastResponse.getBody();
-            Map<String, Object> forecastProperties = (Map<String, Object>) forecastData.get("properties");
-            List<Map<String, Object>> periods = (List<Map<String, Object>>) forecastProperties.get("periods");
-            
-            return periods.stream()
-                .map(period -> {
-                    Map<String, Object> result = new java.util.HashMap<>();
-                    result.put("name", period.get("name"));
-                    result.put("temperature", period.get("temperature") + "°" + period.get("temperatureUnit"));
-                    result.put("windSpeed", period.get("windSpeed"));
-                    result.put("windDirection", period.get("windDirection"));
-                    result.put("shortForecast", period.get("shortForecast"));
-                    result.put("detailedForecast", period.get("detailedForecast"));
-                    result.put("isDaytime", period.get("isDaytime"));
-                    return result;
-                })
-                .toList();
+            // Get the forecast, projected once per snapshot
+            Fetched<ForecastSnapshot> forecast = fetchForecastWithValidity(gridPoint);
+            return new ForecastResult<>(forecast.value().forecast(), validity(forecast));
             
         } catch (Exception e) {
             log.error("Error fetching forecast data for coordinates {}, {}: {}", latitude, longitude, e.getMessage());
@@ -132,37 +162,17 @@ public class WeatherService {
 
     @WithSpan("weather.getWeatherAlerts")
     @Tool(name = "GetWeatherAlerts", description = "Get active weather alerts for a specific location using latitude and longitude")
-    public List<Map<String, Object>> getWeatherAlerts(double latitude, double longitude) {
+    public List<WeatherAlert> getWeatherAlerts(double latitude, double longitude) {
         try {
-            String alertsUrl = String.format("%s/alerts/active?point=%.4f,%.4f", NWS_BASE_URL, latitude, longitude);
-            ResponseEntity<Map> alertsResponse = restTemplate.getForEntity(alertsUrl, Map.class);
-            
-            if (alertsResponse.getBody() == null) {
-                return List.of(); // No alerts
-            }
-            
-            Map<String, Object> alertsData = alertsResponse.getBody();
-            List<Map<String, Object>> features = (List<Map<String, Object>>) alertsData.get("features");
-            
-            if (features == null || features.isEmpty()) {
-                return List.of(); // No active alerts
+            if (alertIngester != null) {
+                Optional<List<WeatherAlert>> indexed = alertIngester.alertsAt(latitude, longitude,
+                    () -> resolveGridPoint(latitude, longitude, "getWeatherAlerts").zones());
+                if (indexed.isPresent()) {
+                    return indexed.get();
+                }
             }
-            
-            return features.stream()
-                .map(feature -> {
-                    Map<String, Object> properties = (Map<String, Object>) feature.get("properties");
-                    Map<String, Object> result = new java.util.HashMap<>();
-                    result.put("event", properties.get("event"));
-                    result.put("headline", properties.get("headline"));
-                    result.put("description", properties.get("description"));
-                    result.put("severity", properties.get("severity"));
-                    result.put("urgency", properties.get("urgency"));
-                    result.put("areas", properties.get("areaDesc"));
-                    result.put("effective", properties.get("effective"));
-                    result.put("expires", properties.get("expires"));
-                    return result;
-                })
-                .toList();
+            String alertsUrl = upstreamUrls.alerts(latitude, longitude);
+            return upstreamCalls.execute(alertsUrl, () -> alertsFetcher.fetch(alertsUrl));
             
         } catch (Exception e) {
             log.error("Error fetching weather alerts for coordinates {}, {}: {}", latitude, longitude, e.getMessage());
@@ -172,29 +182,10 @@ public class WeatherService {
 
     @WithSpan("weather.getLocationInfo")
     @Tool(name = "GetLocationInfo", description = "Get location information (city, state) from coordinates using reverse geocoding")
-    public Map<String, Object> getLocationInfo(double latitude, double longitude) {
+    public LocationInfo getLocationInfo(double latitude, double longitude) {
         try {
-            String pointUrl = String.format("%s/points/%.4f,%.4f", NWS_BASE_URL, latitude, longitude);
-            ResponseEntity<Map> pointResponse = restTemplate.getForEntity(pointUrl, Map.class);
-            
-            if (pointResponse.getBody() == null) {
-                throw new WeatherServerException("Unable to get location information", "NWS_LOCATION_ERROR", "getLocationInfo");
-            }
-            
-            Map<String, Object> pointData = pointResponse.getBody();
-            Map<String, Object> properties = (Map<String, Object>) pointData.get("properties");
-            
-            Map<String, Object> result = new java.util.HashMap<>();
-            result.put("city", properties.get("relativeLocation") != null ? 
-                ((Map<String, Object>) ((Map<String, Object>) properties.get("relativeLocation")).get("properties")).get("city") : "Unknown");
-            result.put("state", properties.get("relativeLocation") != null ? 
-                ((Map<String, Object>) ((Map<String, Object>) properties.get("relativeLocation")).get("properties")).get("state") : "Unknown");
-            result.put("gridId", properties.get("gridId"));
-            result.put("gridX", properties.get("gridX"));
-            result.put("gridY", properties.get("gridY"));
-            result.put("timeZone", properties.get("timeZone"));
-            
-            return result;
+            GridPoint gridPoint = resolveGridPoint(latitude, longitude, "getLocationInfo");
+            return WeatherResults.locationInfo(gridPoint);
             
         } catch (Exception e) {
             log.error("Error fetching location info for coordinates {}, {}: {}", latitude, longitude, e.getMessage());
@@ -205,22 +196,20 @@ public class WeatherService {
     // City-based tools
     @WithSpan("weather.getCurrentWeatherByCity")
     @Tool(name = "GetCurrentWeatherByCity", description = "Get current weather information for a city by name")
-    public Map<String, Object> getCurrentWeatherByCity(String cityName) {
+    public CityWeather getCurrentWeatherByCity(String cityName) {
+        return currentWeatherByCity(cityName).value();
+    }
+
+    private ForecastResult<CityWeather> currentWeatherByCity(String cityName) {
         try {
-            Map<String, Object> coordinates = getCityCoordinates(cityName);
-            double latitude = (Double) coordinates.get("latitude");
-            double longitude = (Double) coordinates.get("longitude");
+            CityCoordinates coordinates = getCityCoordinates(cityName);
+            double latitude = coordinates.latitude();
+            double longitude = coordinates.longitude();
             
             log.debug("Retrieved coordinates for {}: lat={}, lon={}", cityName, latitude, longitude);
             
-            Map<String, Object> weather = getCurrentWeather(latitude, longitude);
-            
-            // Create a new mutable map to add city information
-            Map<String, Object> result = new java.util.HashMap<>(weather);
-            result.put("cityName", cityName);
-            result.put("coordinates", String.format("%.4f, %.4f", latitude, longitude));
-            
-            return result;
+            return currentWeather(latitude, longitude)
+                .map(weather -> WeatherResults.currentConditionsForCity(weather, cityName, latitude, longitude));
             
         } catch (Exception e) {
             log.error("Error fetching weather data for city {}: {}", cityName, e.getMessage(), e);
@@ -229,24 +218,34 @@ public class WeatherService {
         }
     }
 
-    @WithSpan("weather.getWeatherForecastByCity")
     @Tool(name = "GetWeatherForecastByCity", description = "Get extended weather forecast for a city by name")
-    public List<Map<String, Object>> getWeatherForecastByCity(String cityName) {
+    public List<?> getWeatherForecastByCity(String cityName,
+                                            @ToolParam(required = false, description = DAYS_DESCRIPTION) Integer days,
+                                            @ToolParam(required = false, description = FIELDS_DESCRIPTION) String fields) {
+        checkForecastDays(days);
+        ForecastFields selection = ForecastFields.parse(fields);
+        return selection.selectForCity(getWeatherForecastByCity(cityName, days));
+    }
+
+    public List<CityForecastPeriod> getWeatherForecastByCity(String cityName) {
+        return getWeatherForecastByCity(cityName, null);
+    }
+
+    /**
+     * The first {@code days} days of the city's forecast, or the full forecast when {@code days} is null.
+     */
+    @WithSpan("weather.getWeatherForecastByCity")
+    public List<CityForecastPeriod> getWeatherForecastByCity(String cityName, Integer days) {
+        return weatherForecastByCity(cityName, days).value();
+    }
+
+    private ForecastResult<List<CityForecastPeriod>> weatherForecastByCity(String cityName, Integer days) {
         try {
-            Map<String, Object> coordinates = getCityCoordinates(cityName);
-            double latitude = (Double) coordinates.get("latitude");
-            double longitude = (Double) coordinates.get("longitude");
+            CityCoordinates coordinates = getCityCoordinates(cityName);
             
-            List<Map<String, Object>> forecast = getWeatherForecast(latitude, longitude);
-            
-            // Add city name to each forecast period
-            return forecast.stream()
-                .map(period -> {
-                    Map<String, Object> enhancedPeriod = new java.util.HashMap<>(period);
-                    enhancedPeriod.put("cityName", cityName);
-                    return enhancedPeriod;
-                })
-                .toList();
+            // Tag only the requested periods of the shared forecast with the city name
+            return weatherForecast(coordinates.latitude(), coordinates.longitude())
+                .map(forecast -> WeatherResults.forecastForCity(WeatherResults.firstDays(forecast, days), cityName));
             
         } catch (Exception e) {
             log.error("Error fetching forecast data for city {}: {}", cityName, e.getMessage());
@@ -256,22 +255,14 @@ public class WeatherService {
 
     @WithSpan("weather.getWeatherAlertsByCity")
     @Tool(name = "GetWeatherAlertsByCity", description = "Get active weather alerts for a city by name")
-    public List<Map<String, Object>> getWeatherAlertsByCity(String cityName) {
+    public List<CityAlert> getWeatherAlertsByCity(String cityName) {
         try {
-            Map<String, Object> coordinates = getCityCoordinates(cityName);
-            double latitude = (Double) coordinates.get("latitude");
-            double longitude = (Double) coordinates.get("longitude");
+            CityCoordinates coordinates = getCityCoordinates(cityName);
             
-            List<Map<String, Object>> alerts = getWeatherAlerts(latitude, longitude);
+            List<WeatherAlert> alerts = getWeatherAlerts(coordinates.latitude(), coordinates.longitude());
             
-            // Add city name to each alert
-            return alerts.stream()
-                .map(alert -> {
-                    Map<String, Object> enhancedAlert = new java.util.HashMap<>(alert);
-                    enhancedAlert.put("cityName", cityName);
-                    return enhancedAlert;
-                })
-                .toList();
+            // Tag each shared alert with the city name
+            return WeatherResults.alertsForCity(alerts, cityName);
             
         } catch (Exception e) {
             log.error("Error fetching weather alerts for city {}: {}", cityName, e.getMessage());
@@ -281,55 +272,331 @@ public class WeatherService {
 
     @WithSpan("weather.getCityCoordinates")
     @Tool(name = "GetCityCoordinates", description = "Get latitude and longitude coordinates for a city name")
-    public Map<String, Object> getCityCoordinates(String cityName) {
+    public CityCoordinates getCityCoordinates(String cityName) {
         try {
-            String encodedCityName = URLEncoder.encode(cityName, StandardCharsets.UTF_8);
-            String geocodingUrl = String.format("%s?name=%s&count=1&language=en&format=json", 
-                GEOCODING_BASE_URL, encodedCityName);
+            Optional<GeocodedCity> match = geocodingCache.get(normalizeCityName(cityName),
+                key -> lookupCity(cityName.trim()),
+                found -> found.isPresent() ? geocodingSpec.getTtl() : geocodingSpec.getNegativeTtl());
             
-            log.debug("Geocoding URL for {}: {}", cityName, geocodingUrl);
+            GeocodedCity city = match.orElseThrow(() ->
+                new WeatherServerException("City not found: " + cityName, "CITY_NOT_FOUND", "getCityCoordinates"));
+            return WeatherResults.coordinates(city);
             
-            ResponseEntity<Map> geocodingResponse = restTemplate.getForEntity(geocodingUrl, Map.class);
+        } catch (Exception e) {
+            log.error("Error geocoding city {}: {}", cityName, e.getMessage(), e);
+            String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            throw new WeatherServerException("Failed to find coordinates for " + cityName + ": " + errorMsg, "COORDINATES_ERROR", "getCityCoordinates", e);
+        }
+    }
+
+    @WithSpan("weather.getCityWeatherBundle")
+    @Tool(name = "GetCityWeatherBundle", description = "Get current weather, extended forecast, active alerts and location information for a city by name in one call")
+    public CityWeatherBundle getCityWeatherBundle(String cityName) {
+        try {
+            CityCoordinates coordinates = getCityCoordinates(cityName);
+            double latitude = coordinates.latitude();
+            double longitude = coordinates.longitude();
+            
+            // Alerts only need the coordinates, so they load on the fan-out executor while this thread
+            // resolves the grid point and fetches the forecast
+            CompletableFuture<List<WeatherAlert>> alerts = fanOut(() -> getWeatherAlerts(latitude, longitude));
+            GridPoint gridPoint = resolveGridPoint(latitude, longitude, "getCityWeatherBundle");
+            ForecastSnapshot forecast = fetchForecast(gridPoint);
+            if (forecast.current().isEmpty()) {
+                throw new WeatherServerException("No weather data available", "NO_WEATHER_DATA", "getCityWeatherBundle");
+            }
+            return WeatherResults.bundle(cityName, latitude, longitude, gridPoint, forecast, await(alerts));
+            
+        } catch (Exception e) {
+            log.error("Error fetching weather bundle for city {}: {}", cityName, e.getMessage(), e);
+            String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            throw new WeatherServerException("Failed to fetch weather bundle for " + cityName + ": " + errorMsg, "CITY_BUNDLE_ERROR", "getCityWeatherBundle", e);
+        }
+    }
+
+    // Batch tools
+    @WithSpan("weather.getCurrentWeatherBatch")
+    @Tool(name = "GetCurrentWeatherBatch", description = "Get current weather for many cities or coordinates in one call; each location gets its own result or error")
+    public List<BatchResult<CurrentWeather>> getCurrentWeatherBatch(
+            @ToolParam(description = LOCATIONS_DESCRIPTION) List<BatchLocation> locations) {
+        return runBatch(locations, "getCurrentWeatherBatch", (point, snapshot) -> {
+            ForecastPeriod currentPeriod = snapshot.current().orElseThrow(() ->
+                new WeatherServerException("No weather data available", "NO_WEATHER_DATA", "getCurrentWeatherBatch"));
+            return WeatherResults.currentConditions(point.latitude(), point.longitude(), currentPeriod)
+                .withDataAge(snapshot.staleAgeSeconds());
+        });
+    }
+
+    @WithSpan("weather.getWeatherForecastBatch")
+    @Tool(name = "GetWeatherForecastBatch", description = "Get extended weather forecasts for many cities or coordinates in one call; each location gets its own result or error")
+    public List<BatchResult<List<?>>> getWeatherForecastBatch(
+            @ToolParam(description = LOCATIONS_DESCRIPTION) List<BatchLocation> locations,
+            @ToolParam(required = false, description = DAYS_DESCRIPTION) Integer days,
+            @ToolParam(required = false, description = FIELDS_DESCRIPTION) String fields) {
+        checkForecastDays(days);
+        ForecastFields selection = ForecastFields.parse(fields);
+        return runBatch(locations, "getWeatherForecastBatch",
+            (point, snapshot) -> selection.select(WeatherResults.firstDays(snapshot.forecast(), days)));
+    }
+
+    /**
+     * Resolve each distinct location, then fetch each distinct grid forecast once, so locations sharing
+     * a city or grid cell cost one lookup. Both rounds run on the fan-out executor, at most
+     * {@code weather.batch.parallelism} calls at a time; a failing location only fails its own result.
+     */
+    private <T> List<BatchResult<T>> runBatch(List<BatchLocation> locations, String operation,
+                                              BiFunction<BatchPoint, ForecastSnapshot, T> project) {
+        WeatherBatches.checkSize(locations, batchProperties.getMaxLocations(), operation);
+        Map<String, BatchLocation> distinct = WeatherBatches.distinct(locations);
+        
+        Map<String, CompletableFuture<BatchPoint>> points =
+            fanOutBounded(distinct.keySet(), key -> resolveBatchPoint(distinct.get(key), operation));
+        
+        Map<String, GridPoint> grids = new LinkedHashMap<>();
+        points.values().stream()
+            .filter(point -> !point.isCompletedExceptionally())
+            .map(CompletableFuture::join)
+            .forEach(point -> grids.putIfAbsent(point.gridPoint().forecastUrl(), point.gridPoint()));
+        Map<String, CompletableFuture<ForecastSnapshot>> snapshots =
+            fanOutBounded(grids.keySet(), forecastUrl -> fetchForecast(grids.get(forecastUrl)));
+        
+        return WeatherBatches.results(locations, operation,
+            key -> await(points.get(key)), forecastUrl -> await(snapshots.get(forecastUrl)), project);
+    }
+
+    private BatchPoint resolveBatchPoint(BatchLocation location, String operation) {
+        if (location.isCity()) {
+            CityCoordinates coordinates = getCityCoordinates(location.city());
+            return new BatchPoint(coordinates.latitude(), coordinates.longitude(),
+                resolveGridPoint(coordinates.latitude(), coordinates.longitude(), operation));
+        }
+        return new BatchPoint(location.latitude(), location.longitude(),
+            resolveGridPoint(location.latitude(), location.longitude(), operation));
+    }
+
+    /**
+     * Start {@code task} on the fan-out executor, or run it here when the executor is saturated.
+     */
+    private <T> CompletableFuture<T> fanOut(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, fanOutExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("Fan-out executor saturated, running inline");
+            return CompletableFuture.supplyAsync(task, Runnable::run);
+        }
+    }
+
+    /**
+     * Fan {@code task} out for every key with at most {@code weather.batch.parallelism} running at once,
+     * and wait for all of them. Each future holds its own key's result or failure.
+     */
+    private <K, V> Map<K, CompletableFuture<V>> fanOutBounded(Collection<K> keys, Function<K, V> task) {
+        Semaphore permits = new Semaphore(batchProperties.getParallelism());
+        Map<K, CompletableFuture<V>> results = new LinkedHashMap<>();
+        for (K key : keys) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<V> result = fanOut(() -> task.apply(key));
+            result.whenComplete((value, failure) -> permits.release());
+            results.put(key, result);
+        }
+        CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new))
+            .exceptionally(failure -> null)
+            .join();
+        return results;
+    }
+
+    private static <T> T await(CompletableFuture<T> task) {
+        try {
+            return task.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Resolve the NWS grid point for a coordinate, shared by every coordinate-based tool.
+     * Lookups are cached per 4-decimal coordinate since grid assignments practically never change.
+     */
+    private GridPoint resolveGridPoint(double latitude, double longitude, String operation) {
+        String coordinateKey = coordinateKey(latitude, longitude);
+        return gridPointCache.get(coordinateKey, key -> {
+            String pointUrl = upstreamUrls.points(key);
+            return upstreamCalls.execute(pointUrl, () -> fetchGridPoint(pointUrl, operation));
+        });
+    }
+
+    private GridPoint fetchGridPoint(String pointUrl, String operation) {
+        log.debug("NWS points URL: {}", pointUrl);
+        
+        ResponseEntity<PointsResponse> pointResponse = restTemplate.getForEntity(pointUrl, PointsResponse.class);
+        log.debug("NWS points response status: {}", pointResponse.getStatusCode());
+        
+        if (pointResponse.getBody() == null || pointResponse.getBody().properties() == null) {
+            throw new WeatherServerException("Unable to get grid point information", "NWS_GRID_ERROR", operation);
+        }
+        
+        return projectGridPoint(pointResponse.getBody());
+    }
+
+    static GridPoint projectGridPoint(PointsResponse pointData) {
+        return GridPoint.fromProperties(pointData.properties());
+    }
+
+    /**
+     * Fetch the forecast snapshot for a grid point; every forecast-based tool projects from it.
+     * Concurrent callers for the same grid share one upstream request. A snapshot served past its
+     * freshness, while it revalidates in the background or while upstream is failing, comes back marked stale.
+     */
+    private ForecastSnapshot fetchForecast(GridPoint gridPoint) {
+        return fetchForecastWithValidity(gridPoint).value();
+    }
+
+    private Fetched<ForecastSnapshot> fetchForecastWithValidity(GridPoint gridPoint) {
+        String forecastUrl = gridPoint.forecastUrl();
+        Fetched<ForecastSnapshot> fetched = upstreamCalls.execute(forecastUrl, () -> forecastFetcher.fetchWithValidity(forecastUrl));
+        if (!fetched.stale()) {
+            return fetched;
+        }
+        long dataAgeSeconds = Duration.between(fetched.fetchedAt(), Instant.now()).toSeconds();
+        return new Fetched<>(fetched.value().servedStale(dataAgeSeconds), fetched.freshUntil(),
+            fetched.upstreamFreshUntil(), fetched.lastModified(), fetched.fetchedAt(), true);
+    }
+
+    static List<WeatherAlert> projectAlerts(AlertsResponse alertsData) {
+        if (alertsData == null) {
+            return List.of(); // No alerts
+        }
+        
+        List<AlertFeature> features = alertsData.features();
+        
+        if (features == null || features.isEmpty()) {
+            return List.of(); // No active alerts
+        }
+        
+        return features.stream()
+            .filter(feature -> feature.properties() != null)
+            .map(feature -> WeatherResults.alert(feature.properties()))
+            .toList();
+    }
+
+    /**
+     * Query the geocoder for the first match, or an empty result when the city is unknown.
+     */
+    private Optional<GeocodedCity> lookupCity(String cityName) {
+        String geocodingUrl = upstreamUrls.geocoding(cityName);
+        
+        log.debug("Geocoding URL for {}: {}", cityName, geocodingUrl);
+        
+        return upstreamCalls.execute(geocodingUrl, () -> {
+            ResponseEntity<GeocodingResponse> geocodingResponse = restTemplate.getForEntity(geocodingUrl, GeocodingResponse.class);
             log.debug("Geocoding response status: {}", geocodingResponse.getStatusCode());
             
             if (geocodingResponse.getBody() == null) {
                 throw new WeatherServerException("Unable to geocode city: " + cityName, "GEOCODING_ERROR", "getCityCoordinates");
             }
             
-            Map<String, Object> geocodingData = geocodingResponse.getBody();
-            List<Map<String, Object>> results = (List<Map<String, Object>>) geocodingData.get("results");
-            
-            if (results == null || results.isEmpty()) {
-                throw new WeatherServerException("City not found: " + cityName, "CITY_NOT_FOUND", "getCityCoordinates");
-            }
-            
-            Map<String, Object> firstResult = results.get(0);
-            
-            // Use HashMap instead of Map.of() to create a mutable map
-            Map<String, Object> result = new java.util.HashMap<>();
-            result.put("cityName", firstResult.get("name"));
-            result.put("latitude", firstResult.get("latitude"));
-            result.put("longitude", firstResult.get("longitude"));
-            result.put("country", firstResult.get("country"));
-            result.put("state", firstResult.getOrDefault("admin1", ""));
-            result.put("timezone", firstResult.getOrDefault("timezone", ""));
-            
-            return result;
+            return projectFirstMatch(geocodingResponse.getBody());
+        });
+    }
+
+    static Optional<GeocodedCity> projectFirstMatch(GeocodingResponse geocodingData) {
+        List<UpstreamPayloads.GeocodingResult> results = geocodingData.results();
+        
+        if (results == null || results.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(GeocodedCity.fromResult(results.get(0)));
+    }
+
+    static String coordinateKey(double latitude, double longitude) {
+        return String.format("%.4f,%.4f", latitude, longitude);
+    }
+
+    /**
+     * Case- and whitespace-folded city name, the key of every per-city cache.
+     */
+    public static String normalizeCityName(String cityName) {
+        return WHITESPACE.matcher(cityName.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Hit, miss and eviction counters for the upstream caches, keyed by cache name.
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put(gridPointCache.getName(), gridPointCache.stats());
+        stats.put(geocodingCache.getName(), geocodingCache.stats());
+        stats.put("forecasts", forecastFetcher.cacheStats());
+        stats.put("alerts", alertsFetcher.cacheStats());
+        return stats;
+    }
+
+    /**
+     * Fresh hits, 304 revalidations and full downloads for the forecast and alert fetch paths.
+     */
+    public Map<String, RevalidationStats> getRevalidationStats() {
+        Map<String, RevalidationStats> stats = new LinkedHashMap<>();
+        stats.put("forecasts", forecastFetcher.stats());
+        stats.put("alerts", alertsFetcher.stats());
+        return stats;
+    }
+
+    /**
+     * How many upstream calls were made and how many concurrent callers shared an in-flight call instead.
+     */
+    public SingleFlight.Stats getCoalescingStats() {
+        return upstreamCalls.stats();
+    }
+
+    // Additional methods for REST endpoints
+    /**
+     * Version and upstream validity of the forecast snapshot behind a city's current conditions and forecast.
+     * The version changes whenever upstream sends a new forecast document. Empty when the city or its
+     * forecast cannot be resolved, in which case the tool methods report the error.
+     */
+    public Optional<ForecastValidity> getForecastValidity(String cityName) {
+        try {
+            CityCoordinates coordinates = getCityCoordinates(cityName);
+            GridPoint gridPoint = resolveGridPoint(coordinates.latitude(), coordinates.longitude(), "getForecastValidity");
+            return Optional.of(validity(fetchForecastWithValidity(gridPoint)));
             
         } catch (Exception e) {
-            log.error("Error geocoding city {}: {}", cityName, e.getMessage(), e);
-            String errorMsg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
-            throw new WeatherServerException("Failed to find coordinates for " + cityName + ": " + errorMsg, "COORDINATES_ERROR", "getCityCoordinates", e);
+            log.debug("No forecast validity for city {}: {}", cityName, e.getMessage());
+            return Optional.empty();
         }
     }
 
-    // Additional methods for REST endpoints
-    public Map<String, Object> getCurrentWeather(String cityName) {
-        return getCurrentWeatherByCity(cityName);
+    /**
+     * A city's current conditions with the validity of the forecast snapshot they were taken from.
+     */
+    public ForecastResult<CityWeather> getCurrentWeather(String cityName) {
+        return currentWeatherByCity(cityName);
+    }
+
+    /**
+     * The first {@code days} days of a city's forecast with the validity of the snapshot they were taken from.
+     */
+    public ForecastResult<List<CityForecastPeriod>> getWeatherForecast(String cityName, int days) {
+        checkForecastDays(days);
+        return weatherForecastByCity(cityName, days);
+    }
+
+    private static ForecastValidity validity(Fetched<ForecastSnapshot> forecast) {
+        return new ForecastValidity(forecast.value().version(), forecast.value().staleAgeSeconds(),
+            forecast.upstreamFreshUntil(), forecast.lastModified());
     }
 
-    public List<Map<String, Object>> getWeatherForecast(String cityName, int days) {
-        return getWeatherForecastByCity(cityName);
+    /**
+     * Rejects a {@code days} argument outside the NWS forecast range; {@code null} asks for the full forecast.
+     */
+    public static void checkForecastDays(Integer days) {
+        if (days != null && (days < 1 || days > MAX_FORECAST_DAYS)) {
+            throw new WeatherServerException("days must be between 1 and " + MAX_FORECAST_DAYS + ", got " + days,
+                "INVALID_DAYS", "getWeatherForecast");
+        }
     }
 
     public List<String> getSupportedCities() {
@@ -0,0 +1,206 @@
+package com.godaddy.examples.mcp.weather;
+
+import com.godaddy.examples.mcp.weather.support.StubWeatherUpstream;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the whole server against {@link StubWeatherUpstream} once with {@code spring.threads.virtual.enabled}
+ * on and once with it off, and sends 2000 concurrent {@code /weather/{city}} requests through Tomcat to each.
+ * A servlet filter records the kind of thread each request was handled on; the wall-clock time of each run is
+ * only logged, since it depends on the machine.
+ * Excluded from the default build; run with {@code ./mvnw test -Pload-test}.
+ */
+@Tag("load")
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "weather.warmup.enabled=false",
+    "weather.alert-index.enabled=false",
+    "weather.http.max-connections-total=4096",
+    "weather.http.max-connections-per-host=4096",
+    "weather.http.connection-request-timeout=30s",
+    "weather.resilience.points.max-concurrent-calls=4096",
+    "weather.resilience.forecasts.max-concurrent-calls=4096",
+    "weather.resilience.alerts.max-concurrent-calls=4096",
+    "weather.resilience.geocoding.max-concurrent-calls=4096",
+    "logging.level.com.godaddy.examples.mcp.weather=INFO",
+    "logging.level.org.springframework.ai=INFO"
+})
+@Import(VirtualThreadsLoadTest.RequestThreadsConfiguration.class)
+@DisplayName("Virtual Threads Load Tests")
+class VirtualThreadsLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final int WARM_UP_REQUESTS = 100;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(50);
+
+    private static final StubWeatherUpstream UPSTREAM = startUpstream();
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("weather.upstream.nws-base-url", () -> UPSTREAM.upstreamProperties().getNwsBaseUrl());
+        registry.add("weather.upstream.geocoding-url", () -> UPSTREAM.upstreamProperties().getGeocodingUrl());
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        UPSTREAM.close();
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    @DisplayName("With virtual threads enabled")
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private RequestThreads requestThreads;
+
+        @Test
+        @DisplayName("Should handle every concurrent request on a virtual thread")
+        void getWeather_ConcurrentRequests_HandledOnVirtualThreads() throws Exception {
+            // When
+            Duration elapsed = sendConcurrentRequests(port, "virtual");
+
+            // Then
+            log.info("{} concurrent /weather/{city} requests, {} ms upstream latency, virtual threads: {} ms",
+                CONCURRENT_REQUESTS, UPSTREAM_LATENCY.toMillis(), elapsed.toMillis());
+            assertThat(requestThreads.virtual()).isEqualTo(WARM_UP_REQUESTS + CONCURRENT_REQUESTS);
+            assertThat(requestThreads.platform()).isZero();
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    @DisplayName("With virtual threads disabled")
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private RequestThreads requestThreads;
+
+        @Test
+        @DisplayName("Should handle every concurrent request on Tomcat's platform thread pool")
+        void getWeather_ConcurrentRequests_HandledOnPlatformThreads() throws Exception {
+            // When
+            Duration elapsed = sendConcurrentRequests(port, "platform");
+
+            // Then
+            log.info("{} concurrent /weather/{city} requests, {} ms upstream latency, platform threads: {} ms",
+                CONCURRENT_REQUESTS, UPSTREAM_LATENCY.toMillis(), elapsed.toMillis());
+            assertThat(requestThreads.platform()).isEqualTo(WARM_UP_REQUESTS + CONCURRENT_REQUESTS);
+            assertThat(requestThreads.virtual()).isZero();
+        }
+    }
+
+    /**
+     * A warm-up round, then {@link #CONCURRENT_REQUESTS} requests at once, each for its own city so nothing is
+     * served from a cache or a shared in-flight call. Returns how long the concurrent round took.
+     */
+    private static Duration sendConcurrentRequests(int port, String scenario) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        sendAll(client, port, scenario + "-warm-up", WARM_UP_REQUESTS);
+        long started = System.nanoTime();
+        sendAll(client, port, scenario, CONCURRENT_REQUESTS);
+        return Duration.ofNanos(System.nanoTime() - started);
+    }
+
+    private static void sendAll(HttpClient client, int port, String prefix, int count) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> requests = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                URI uri = URI.create("http://localhost:" + port + "/weather/" + prefix + "-" + i);
+                requests.add(executor.submit(() ->
+                    client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                        .statusCode()));
+            }
+            for (Future<Integer> request : requests) {
+                assertThat(request.get()).isEqualTo(200);
+            }
+        }
+    }
+
+    private static StubWeatherUpstream startUpstream() {
+        try {
+            return new StubWeatherUpstream(UPSTREAM_LATENCY);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TestConfiguration
+    static class RequestThreadsConfiguration {
+
+        @Bean
+        RequestThreads requestThreads() {
+            return new RequestThreads();
+        }
+    }
+
+    /**
+     * Counts {@code /weather/**} requests by the kind of thread the servlet container ran them on.
+     */
+    static class RequestThreads extends OncePerRequestFilter {
+
+        private final AtomicLong virtual = new AtomicLong();
+        private final AtomicLong platform = new AtomicLong();
+
+        long virtual() {
+            return virtual.get();
+        }
+
+        long platform() {
+            return platform.get();
+        }
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+            return !request.getRequestURI().startsWith("/weather/");
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            (Thread.currentThread().isVirtual() ? virtual : platform).incrementAndGet();
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.godaddy.examples.mcp.weather;
+
+import com.godaddy.examples.mcp.weather.support.StubWeatherUpstream;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientSseClientTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the running server end to end, over {@code /weather/{city}} and over the MCP SSE transport, at
+ * rising concurrency against {@link StubWeatherUpstream} with latency, jitter and a share of injected
+ * upstream failures. Each level is a closed loop: every client sends its next request as soon as the last
+ * one answers, for a fixed time. Throughput and p50/p99/p99.9 latency are logged per level.
+ * <p>
+ * Each level starts cold on its own set of cities, so it covers the misses a new traffic mix causes as
+ * well as the cache hits after them. Bulkheads and the connection pool are sized above the highest level,
+ * so the server and the stub set the pace rather than the guards. The stub serves no {@code /zones/}
+ * recordings, so the background alert index is switched off and alerts are looked up per point.
+ * Excluded from the default build; run with {@code ./mvnw test -Pload-test}.
+ */
+@Tag("load")
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "weather.warmup.enabled=false",
+    "weather.alert-index.enabled=false",
+    "weather.http.max-connections-total=1024",
+    "weather.http.max-connections-per-host=512",
+    "weather.resilience.points.max-concurrent-calls=512",
+    "weather.resilience.forecasts.max-concurrent-calls=512",
+    "weather.resilience.alerts.max-concurrent-calls=512",
+    "weather.resilience.geocoding.max-concurrent-calls=512",
+    "logging.level.com.godaddy.examples.mcp.weather=INFO",
+    "logging.level.org.springframework.ai=INFO"
+})
+@DisplayName("Weather Server Load Tests")
+class WeatherServerLoadTest {
+
+    private static final int[] CONCURRENCY_LEVELS = {4, 16, 64, 256};
+    private static final Duration LEVEL_DURATION = Duration.ofSeconds(5);
+    private static final int CITIES_PER_LEVEL = 200;
+    private static final int MCP_SESSIONS = 16;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(40);
+    private static final Duration UPSTREAM_JITTER = Duration.ofMillis(40);
+    private static final double UPSTREAM_ERROR_RATE = 0.01;
+
+    private static final StubWeatherUpstream UPSTREAM = startUpstream();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("weather.upstream.nws-base-url", () -> UPSTREAM.upstreamProperties().getNwsBaseUrl());
+        registry.add("weather.upstream.geocoding-url", () -> UPSTREAM.upstreamProperties().getGeocodingUrl());
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        UPSTREAM.close();
+    }
+
+    @Test
+    @DisplayName("Should serve /weather/{city} at rising concurrency with upstream failures absorbed")
+    void getWeather_RisingConcurrency_ReportsThroughputAndTailLatency() throws Exception {
+        // Given
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        UPSTREAM.injectErrors(UPSTREAM_ERROR_RATE, 503);
+
+        // When
+        List<LevelResult> levels = rampUp("rest", city -> {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/weather/" + city)).GET().build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        });
+
+        // Then
+        assertWithinErrorBudget(levels);
+    }
+
+    @Test
+    @DisplayName("Should serve the MCP tool endpoint at rising concurrency with upstream failures absorbed")
+    void callTool_RisingConcurrency_ReportsThroughputAndTailLatency() throws Exception {
+        // Given
+        List<McpSyncClient> sessions = new ArrayList<>();
+        for (int i = 0; i < MCP_SESSIONS; i++) {
+            McpSyncClient session = McpClient.sync(HttpClientSseClientTransport.builder("http://localhost:" + port).build())
+                .requestTimeout(Duration.ofSeconds(30))
+                .build();
+            session.initialize();
+            sessions.add(session);
+        }
+        UPSTREAM.injectErrors(UPSTREAM_ERROR_RATE, 503);
+
+        // When
+        List<LevelResult> levels;
+        try {
+            levels = rampUp("mcp", city -> {
+                McpSyncClient session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+                McpSchema.CallToolResult result = session.callTool(
+                    new McpSchema.CallToolRequest("GetCurrentWeatherByCity", Map.of("cityName", city)));
+                return !Boolean.TRUE.equals(result.isError());
+            });
+        } finally {
+            sessions.forEach(McpSyncClient::closeGracefully);
+        }
+
+        // Then
+        assertWithinErrorBudget(levels);
+    }
+
+    private static void assertWithinErrorBudget(List<LevelResult> levels) {
+        assertThat(UPSTREAM.injectedErrorCount()).isPositive();
+        for (LevelResult level : levels) {
+            assertThat(level.requests()).isPositive();
+            // Retries and stale-if-error should hide nearly every injected upstream failure
+            assertThat(level.errors()).isLessThanOrEqualTo((long) (level.requests() * UPSTREAM_ERROR_RATE));
+        }
+    }
+
+    private List<LevelResult> rampUp(String scenario, Call call) throws Exception {
+        List<LevelResult> results = new ArrayList<>();
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            List<String> cities = IntStream.range(0, CITIES_PER_LEVEL)
+                .mapToObj(i -> scenario + "-" + concurrency + "-" + i)
+                .toList();
+            LevelResult result = runLevel(concurrency, cities, call);
+            log.info("{} concurrency={} requests={} errors={} throughput={} req/s p50={} ms p99={} ms p99.9={} ms max={} ms",
+                scenario, concurrency, result.requests(), result.errors(), Math.round(result.throughput()),
+                result.percentileMillis(0.5), result.percentileMillis(0.99), result.percentileMillis(0.999),
+                result.percentileMillis(1.0));
+            results.add(result);
+        }
+        return results;
+    }
+
+    private static LevelResult runLevel(int concurrency, List<String> cities, Call call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> clients = new ArrayList<>(concurrency);
+        long[] errors = new long[concurrency];
+        long started;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < concurrency; client++) {
+                int id = client;
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    long deadline = System.nanoTime() + LEVEL_DURATION.toNanos();
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        String city = cities.get(ThreadLocalRandom.current().nextInt(cities.size()));
+                        long requestStarted = System.nanoTime();
+                        boolean succeeded;
+                        try {
+                            succeeded = call.succeeds(city);
+                        } catch (Exception e) {
+                            succeeded = false;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - requestStarted;
+                        if (!succeeded) {
+                            errors[id]++;
+                        }
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            started = System.nanoTime();
+            start.countDown();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        List<long[]> perClient = new ArrayList<>(concurrency);
+        for (Future<long[]> client : clients) {
+            perClient.add(client.get());
+        }
+        long[] latencies = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new LevelResult(concurrency, Arrays.stream(errors).sum(), elapsed, latencies);
+    }
+
+    private static StubWeatherUpstream startUpstream() {
+        try {
+            return new StubWeatherUpstream(UPSTREAM_LATENCY, UPSTREAM_JITTER);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        boolean succeeds(String city) throws Exception;
+    }
+
+    /**
+     * {@code latencies} are sorted, in nanoseconds.
+     */
+    private record LevelResult(int concurrency, long errors, Duration elapsed, long[] latencies) {
+
+        long requests() {
+            return latencies.length;
+        }
+
+        double throughput() {
+            return latencies.length / (elapsed.toNanos() / 1e9);
+        }
+
+        double percentileMillis(double quantile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * latencies.length);
+            long nanos = latencies[Math.max(0, rank - 1)];
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+}
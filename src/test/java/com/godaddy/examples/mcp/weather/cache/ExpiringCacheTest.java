@@ -0,0 +1,159 @@
+package com.godaddy.examples.mcp.weather.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExpiringCache Tests")
+class ExpiringCacheTest {
+
+    private MutableClock clock;
+    private ExpiringCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-15T12:00:00Z"));
+        cache = new ExpiringCache<>("test", 2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses")
+    void get_CountsHitsAndMisses() {
+        // Given
+        cache.put("a", "1");
+
+        // When
+        cache.get("a");
+        cache.get("b");
+
+        // Then
+        CacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should expire entries after their TTL")
+    void get_ExpiredEntry_ReturnsEmpty() {
+        // Given
+        cache.put("a", "1");
+
+        // When
+        clock.advance(Duration.ofMinutes(5));
+
+        // Then
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should honor per-entry TTL")
+    void put_CustomTtl_OverridesDefault() {
+        // Given
+        cache.put("short", "1", Duration.ofSeconds(30));
+        cache.put("long", "2");
+
+        // When
+        clock.advance(Duration.ofMinutes(1));
+
+        // Then
+        assertThat(cache.get("short")).isEmpty();
+        assertThat(cache.get("long")).contains("2");
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entry when full")
+    void put_OverMaxSize_EvictsLeastRecentlyUsed() {
+        // Given
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        // When
+        cache.put("c", "3");
+
+        // Then
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).contains("1");
+        assertThat(cache.get("c")).contains("3");
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load once and serve subsequent lookups from cache")
+    void getWithLoader_LoadsOnlyOnMiss() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        String first = cache.get("a", key -> key + loads.incrementAndGet());
+        String second = cache.get("a", key -> key + loads.incrementAndGet());
+
+        // Then
+        assertThat(first).isEqualTo("a1");
+        assertThat(second).isEqualTo("a1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let the loaded value choose its TTL")
+    void getWithTtlPolicy_UsesTtlForLoadedValue() {
+        // When
+        cache.get("missing", key -> "", value -> value.isEmpty() ? Duration.ofSeconds(10) : Duration.ofHours(1));
+        cache.get("present", key -> "value", value -> value.isEmpty() ? Duration.ofSeconds(10) : Duration.ofHours(1));
+        clock.advance(Duration.ofMinutes(1));
+
+        // Then
+        assertThat(cache.get("missing")).isEmpty();
+        assertThat(cache.get("present")).contains("value");
+    }
+
+    @Test
+    @DisplayName("Should not cache failed loads")
+    void getWithLoader_LoaderThrows_CachesNothing() {
+        // When & Then
+        assertThatThrownBy(() -> cache.get("a", key -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.godaddy.examples.mcp.weather.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    @DisplayName("Should share one in-flight call between concurrent callers")
+    void execute_ConcurrentSameKey_RunsOnce() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+            singleFlight.execute("https://api.weather.gov/points/41.8781,-87.6298", () -> {
+                calls.incrementAndGet();
+                awaitQuietly(release);
+                return "LOT";
+            }));
+        waitUntil(() -> singleFlight.stats().inFlight() == 1);
+
+        // When
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+            singleFlight.execute("https://api.weather.gov/points/41.8781,-87.6298", () -> {
+                calls.incrementAndGet();
+                return "unexpected";
+            }));
+        waitUntil(() -> singleFlight.stats().collapsed() == 1);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("LOT");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("LOT");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.stats().executions()).isEqualTo(1);
+        assertThat(singleFlight.stats().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run again once the previous call has completed")
+    void execute_SequentialSameKey_RunsEachTime() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        singleFlight.execute("key", calls::incrementAndGet);
+        singleFlight.execute("key", calls::incrementAndGet);
+
+        // Then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(singleFlight.stats().collapsed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate failures to the caller")
+    void execute_CallFails_RethrowsAndClearsKey() {
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("upstream down");
+        assertThat(singleFlight.stats().inFlight()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,123 @@
+package com.godaddy.examples.mcp.weather.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.config.WeatherCaptureProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TrafficRecorder Tests")
+class TrafficRecorderTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T12:00:00Z");
+    private static final ToolDefinition DEFINITION = ToolDefinition.builder()
+        .name("GetCurrentWeather")
+        .description("Get current weather for a location")
+        .inputSchema("{}")
+        .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should record the tool name, time and rounded coordinates, then run the tool")
+    void recorded_ToolCall_WritesAnonymizedEvent() throws Exception {
+        // Given
+        TrafficRecorder recorder = recorder("traffic.jsonl", 2);
+        ToolCallback recorded = recorder.recorded(new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return DEFINITION;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return "{\"temperature\":\"32°F\"}";
+            }
+        });
+
+        // When
+        String result = recorded.call("{\"latitude\":41.878113,\"longitude\":-87.629799}");
+        recorder.destroy();
+
+        // Then
+        assertThat(result).isEqualTo("{\"temperature\":\"32°F\"}");
+        List<TrafficEvent> events = TrafficReplayer.read(directory.resolve("traffic.jsonl"), objectMapper);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).t()).isEqualTo(NOW.toEpochMilli());
+        assertThat(events.get(0).tool()).isEqualTo("GetCurrentWeather");
+        assertThat(events.get(0).args().get("latitude").asDouble()).isEqualTo(41.88);
+        assertThat(events.get(0).args().get("longitude").asDouble()).isEqualTo(-87.63);
+    }
+
+    @Test
+    @DisplayName("Should replace unknown city names with the same salted token in arguments and paths")
+    void recordRest_UnknownCity_WritesToken() throws Exception {
+        // Given
+        TrafficRecorder recorder = recorder("traffic.jsonl", 2);
+        byte[] body = "{\"locations\":[{\"city\":\"Springfield\"},{\"city\":\"seattle\"}]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        // When
+        recorder.recordRest(NOW.toEpochMilli(), "POST", "/weather/batch", body);
+        recorder.recordRest(NOW.toEpochMilli(), "GET", "/weather/%20springfield/forecast?days=2", new byte[0]);
+        recorder.recordRest(NOW.toEpochMilli(), "GET", "/weather/Seattle", new byte[0]);
+        recorder.destroy();
+
+        // Then
+        List<TrafficEvent> events = TrafficReplayer.read(directory.resolve("traffic.jsonl"), objectMapper);
+        String token = events.get(0).body().at("/locations/0/city").asText();
+        assertThat(token).matches("city-[0-9a-f]{12}");
+        assertThat(events.get(0).body().at("/locations/1/city").asText()).isEqualTo("seattle");
+        assertThat(events.get(1).path()).isEqualTo("/weather/" + token + "/forecast?days=2");
+        assertThat(events.get(2).path()).isEqualTo("/weather/Seattle");
+    }
+
+    @Test
+    @DisplayName("Should gzip REST requests and round coordinates nested in the body")
+    void recordRest_BatchBody_WritesCompressedEvent() throws Exception {
+        // Given
+        TrafficRecorder recorder = recorder("traffic.jsonl.gz", 4);
+        byte[] body = "{\"locations\":[{\"city\":\"Chicago\"},{\"latitude\":47.606209,\"longitude\":-122.332071}]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        // When
+        recorder.recordRest(NOW.toEpochMilli(), "POST", "/weather/batch", body);
+        recorder.recordRest(NOW.toEpochMilli() + 5, "GET", "/weather/Chicago/forecast?days=2", new byte[0]);
+        recorder.destroy();
+
+        // Then
+        List<TrafficEvent> events = TrafficReplayer.read(directory.resolve("traffic.jsonl.gz"), objectMapper);
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).path()).isEqualTo("/weather/batch");
+        assertThat(events.get(0).body().at("/locations/0/city").asText()).isEqualTo("Chicago");
+        assertThat(events.get(0).body().at("/locations/1/latitude").asDouble()).isEqualTo(47.6062);
+        assertThat(events.get(0).body().at("/locations/1/longitude").asDouble()).isEqualTo(-122.3321);
+        assertThat(events.get(1).method()).isEqualTo("GET");
+        assertThat(events.get(1).path()).isEqualTo("/weather/Chicago/forecast?days=2");
+        assertThat(events.get(1).body()).isNull();
+        assertThat(recorder.recordedEvents()).isEqualTo(2);
+        assertThat(recorder.droppedEvents()).isZero();
+    }
+
+    private TrafficRecorder recorder(String file, int coordinateDecimals) throws Exception {
+        WeatherCaptureProperties properties = new WeatherCaptureProperties();
+        properties.setFile(directory.resolve(file).toString());
+        properties.setCoordinateDecimals(coordinateDecimals);
+        return new TrafficRecorder(properties, objectMapper, List.of("Chicago", "Seattle"),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,210 @@
+package com.godaddy.examples.mcp.weather.capture;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientSseClientTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plays a {@link TrafficRecorder} file back against a server, keeping the recorded gaps between calls
+ * divided by {@code speed}: 1 replays at the original rate, 10 ten times faster. Calls are sent on schedule
+ * whether or not earlier ones have answered, so bursts in the recording stay bursts. The report gives
+ * latency percentiles, the error count, and how far the replayer itself fell behind schedule.
+ * <p>
+ * A load-testing tool, so it lives with the tests and is not shipped in the server jar. Run with
+ * {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.godaddy.examples.mcp.weather.capture.TrafficReplayer
+ * -Dexec.args="traffic.jsonl.gz http://localhost:8085 10"}.
+ */
+@Slf4j
+public class TrafficReplayer {
+
+    /**
+     * Sends one recorded call; returns whether it succeeded.
+     */
+    @FunctionalInterface
+    public interface Target {
+        boolean send(TrafficEvent event) throws Exception;
+    }
+
+    private final Target target;
+
+    public TrafficReplayer(Target target) {
+        this.target = target;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            log.error("Usage: TrafficReplayer <recording> <base-url> [speed]");
+            System.exit(2);
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<TrafficEvent> events = read(Path.of(args[0]), objectMapper);
+        double speed = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+        try (ServerTarget server = new ServerTarget(args[1], objectMapper)) {
+            ReplayReport report = new TrafficReplayer(server).replay(events, speed);
+            log.info(report.summary());
+        }
+    }
+
+    /**
+     * Events in {@code file}, gzip-compressed if its name ends in {@code .gz}, in arrival order.
+     */
+    public static List<TrafficEvent> read(Path file, ObjectMapper objectMapper) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in, 64 * 1024);
+        }
+        List<TrafficEvent> events = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    events.add(objectMapper.readValue(line, TrafficEvent.class));
+                }
+            }
+        }
+        // The writer thread can interleave events that arrived within a few milliseconds of each other
+        events.sort(Comparator.comparingLong(TrafficEvent::t));
+        return events;
+    }
+
+    public ReplayReport replay(List<TrafficEvent> events, double speed) throws InterruptedException {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("speed must be positive, got " + speed);
+        }
+        long[] latencies = new long[events.size()];
+        AtomicInteger errors = new AtomicInteger();
+        long maxLag = 0;
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < events.size(); i++) {
+                TrafficEvent event = events.get(i);
+                long due = started + dueOffsetNanos(events.get(0), event, speed);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    Thread.sleep(Duration.ofNanos(wait));
+                }
+                maxLag = Math.max(maxLag, System.nanoTime() - due);
+                int index = i;
+                executor.execute(() -> {
+                    long sent = System.nanoTime();
+                    if (!succeeds(event)) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - sent;
+                });
+            }
+        }
+        Arrays.sort(latencies);
+        return new ReplayReport(events.size(), errors.get(), Duration.ofNanos(System.nanoTime() - started),
+            Duration.ofNanos(maxLag), latencies);
+    }
+
+    /**
+     * When {@code event} is due, counted from the start of the replay.
+     */
+    static long dueOffsetNanos(TrafficEvent first, TrafficEvent event, double speed) {
+        return (long) (Duration.ofMillis(event.t() - first.t()).toNanos() / speed);
+    }
+
+    private boolean succeeds(TrafficEvent event) {
+        try {
+            return target.send(event);
+        } catch (Exception e) {
+            log.debug("Replaying {} failed: {}", event.isToolCall() ? event.tool() : event.path(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * {@code latencies} are sorted, in nanoseconds.
+     */
+    public record ReplayReport(int events, int errors, Duration elapsed, Duration maxLag, long[] latencies) {
+
+        public Duration percentile(double quantile) {
+            if (latencies.length == 0) {
+                return Duration.ZERO;
+            }
+            int rank = (int) Math.ceil(quantile * latencies.length);
+            return Duration.ofNanos(latencies[Math.max(0, rank - 1)]);
+        }
+
+        public String summary() {
+            return String.format("%d calls in %d ms, %d errors, p50 %d ms, p99 %d ms, p99.9 %d ms, max %d ms, "
+                    + "replay fell behind by up to %d ms",
+                events, elapsed.toMillis(), errors, percentile(0.5).toMillis(), percentile(0.99).toMillis(),
+                percentile(0.999).toMillis(), percentile(1.0).toMillis(), maxLag.toMillis());
+        }
+    }
+
+    /**
+     * Sends REST events over HTTP and tool events over one MCP SSE session to the server at {@code baseUrl}.
+     */
+    static final class ServerTarget implements Target, AutoCloseable {
+
+        private final String baseUrl;
+        private final ObjectMapper objectMapper;
+        private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        private final McpSyncClient mcpClient;
+
+        ServerTarget(String baseUrl, ObjectMapper objectMapper) {
+            this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+            this.objectMapper = objectMapper;
+            this.mcpClient = McpClient.sync(HttpClientSseClientTransport.builder(this.baseUrl).build())
+                .requestTimeout(Duration.ofSeconds(30))
+                .build();
+            mcpClient.initialize();
+        }
+
+        @Override
+        public boolean send(TrafficEvent event) throws Exception {
+            if (event.isToolCall()) {
+                Map<String, Object> arguments = event.args() == null ? Map.of()
+                    : objectMapper.convertValue(event.args(), new TypeReference<Map<String, Object>>() { });
+                McpSchema.CallToolResult result = mcpClient.callTool(new McpSchema.CallToolRequest(event.tool(), arguments));
+                return !Boolean.TRUE.equals(result.isError());
+            }
+            HttpRequest.BodyPublisher body = event.body() == null ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(event.body()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + event.path()))
+                .method(event.method(), body)
+                .header("Content-Type", "application/json")
+                .build();
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 400;
+        }
+
+        @Override
+        public void close() {
+            mcpClient.closeGracefully();
+            httpClient.close();
+        }
+    }
+}
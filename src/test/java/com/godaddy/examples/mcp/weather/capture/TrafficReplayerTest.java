@@ -0,0 +1,76 @@
+package com.godaddy.examples.mcp.weather.capture;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TrafficReplayer Tests")
+class TrafficReplayerTest {
+
+    private static final long START = 1_705_320_000_000L;
+
+    @Test
+    @DisplayName("Should send every recorded call and count failed and throwing calls as errors")
+    void replay_MixedOutcomes_CountsErrors() throws Exception {
+        // Given
+        List<TrafficEvent> events = List.of(
+            TrafficEvent.ofTool(START, "GetCurrentWeatherByCity", JsonNodeFactory.instance.objectNode().put("cityName", "Chicago")),
+            TrafficEvent.ofRest(START + 1, "GET", "/weather/Chicago", null),
+            TrafficEvent.ofRest(START + 2, "GET", "/weather/Atlantis", null));
+        Queue<TrafficEvent> sent = new ConcurrentLinkedQueue<>();
+        TrafficReplayer replayer = new TrafficReplayer(event -> {
+            sent.add(event);
+            if ("/weather/Atlantis".equals(event.path())) {
+                throw new IllegalStateException("connection refused");
+            }
+            return event.isToolCall();
+        });
+
+        // When
+        TrafficReplayer.ReplayReport report = replayer.replay(events, 1.0);
+
+        // Then
+        assertThat(sent).containsExactlyInAnyOrderElementsOf(events);
+        assertThat(report.events()).isEqualTo(3);
+        assertThat(report.errors()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the recorded gaps between calls, divided by the speed-up")
+    void replay_AcceleratedRate_CompressesRecordedGaps() throws Exception {
+        // Given
+        List<TrafficEvent> events = List.of(
+            TrafficEvent.ofRest(START, "GET", "/cities", null),
+            TrafficEvent.ofRest(START + 1_000, "GET", "/cities", null),
+            TrafficEvent.ofRest(START + 2_000, "GET", "/cities", null));
+        TrafficReplayer replayer = new TrafficReplayer(event -> true);
+
+        // When
+        TrafficReplayer.ReplayReport report = replayer.replay(events, 20.0);
+
+        // Then
+        assertThat(TrafficReplayer.dueOffsetNanos(events.get(0), events.get(1), 20.0))
+            .isEqualTo(Duration.ofMillis(50).toNanos());
+        assertThat(report.elapsed()).isBetween(Duration.ofMillis(100), Duration.ofMillis(2_000));
+        assertThat(report.errors()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a speed that is not positive")
+    void replay_ZeroSpeed_ThrowsIllegalArgument() {
+        // Given
+        TrafficReplayer replayer = new TrafficReplayer(event -> true);
+
+        // When & Then
+        assertThatThrownBy(() -> replayer.replay(List.of(), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HttpClientConfiguration Tests")
+class HttpClientConfigurationTest {
+
+    private final HttpClientConfiguration configuration = new HttpClientConfiguration();
+
+    @Test
+    @DisplayName("Should size the connection pool from properties")
+    void upstreamConnectionManager_AppliesPoolLimits() throws Exception {
+        // Given
+        WeatherHttpClientProperties properties = new WeatherHttpClientProperties();
+        properties.setMaxConnectionsTotal(120);
+        properties.setMaxConnectionsPerHost(30);
+        properties.setHostMaxConnections(Map.of("api.weather.gov", 80));
+
+        // When
+        try (PoolingHttpClientConnectionManager connectionManager = configuration.upstreamConnectionManager(properties)) {
+            // Then
+            assertThat(connectionManager.getMaxTotal()).isEqualTo(120);
+            assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(30);
+            assertThat(connectionManager.getMaxPerRoute(
+                new HttpRoute(new HttpHost("https", "api.weather.gov", 443), null, true))).isEqualTo(80);
+        }
+    }
+
+    @Test
+    @DisplayName("Should build a pooled request factory by default")
+    void pooledUpstreamRequestFactory_UsesHttpComponents() throws Exception {
+        // Given
+        WeatherHttpClientProperties properties = new WeatherHttpClientProperties();
+
+        // When
+        try (PoolingHttpClientConnectionManager connectionManager = configuration.upstreamConnectionManager(properties)) {
+            ClientHttpRequestFactory requestFactory = configuration.pooledUpstreamRequestFactory(connectionManager, properties);
+
+            // Then
+            assertThat(requestFactory).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should build a JDK HTTP/2 request factory when enabled")
+    void http2UpstreamRequestFactory_UsesJdkClient() {
+        // Given
+        WeatherHttpClientProperties properties = new WeatherHttpClientProperties();
+        properties.setHttp2Enabled(true);
+
+        // When
+        ClientHttpRequestFactory requestFactory = configuration.http2UpstreamRequestFactory(properties);
+
+        // Then
+        assertThat(requestFactory).isInstanceOf(JdkClientHttpRequestFactory.class);
+    }
+}
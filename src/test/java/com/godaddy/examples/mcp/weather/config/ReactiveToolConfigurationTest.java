@@ -0,0 +1,154 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.services.ReactiveWeatherService;
+import com.godaddy.examples.mcp.weather.services.WeatherService;
+import com.godaddy.examples.mcp.weather.services.WeatherServiceBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.support.ToolCallbacks;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReactiveToolConfiguration Tests")
+class ReactiveToolConfigurationTest {
+
+    private static final String GEOCODING_BODY = """
+        {"results":[{"name":"Chicago","latitude":41.8781,"longitude":-87.6298,
+        "country":"United States","admin1":"Illinois","timezone":"America/Chicago"}]}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ToolMetrics toolMetrics = new ToolMetrics(meterRegistry);
+
+    private WeatherService weatherService;
+    private ReactiveWeatherService reactiveWeatherService;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(GEOCODING_BODY)
+                .build()))
+            .build();
+        weatherService = WeatherServiceBuilder.using(new RestTemplate()).build();
+        reactiveWeatherService = new ReactiveWeatherService(webClient, new WeatherCacheProperties(), new WeatherBatchProperties(),
+            new WeatherUpstreamProperties());
+    }
+
+    @Test
+    @DisplayName("Should expose every blocking tool with the same name and description")
+    void asyncToolSpecifications_AllTools_ReuseDefinitions() {
+        // When
+        List<McpServerFeatures.AsyncToolSpecification> specifications =
+            ReactiveToolConfiguration.asyncToolSpecifications(weatherService, reactiveWeatherService, objectMapper, toolMetrics);
+
+        // Then
+        List<String> blockingTools = Arrays.stream(ToolCallbacks.from(weatherService))
+            .map(callback -> callback.getToolDefinition().name() + ": " + callback.getToolDefinition().description())
+            .toList();
+        assertThat(specifications)
+            .extracting(specification -> specification.tool().name() + ": " + specification.tool().description())
+            .containsExactlyInAnyOrderElementsOf(blockingTools);
+    }
+
+    @Test
+    @DisplayName("Should run the reactive implementation and return its JSON result")
+    void asyncToolSpecifications_Call_ReturnsJsonText() throws Exception {
+        // Given
+        String parameterName = WeatherService.class.getMethod("getCityCoordinates", String.class)
+            .getParameters()[0].getName();
+        McpServerFeatures.AsyncToolSpecification specification =
+            ReactiveToolConfiguration.asyncToolSpecifications(weatherService, reactiveWeatherService, objectMapper, toolMetrics)
+                .stream()
+                .filter(candidate -> candidate.tool().name().equals("GetCityCoordinates"))
+                .findFirst()
+                .orElseThrow();
+
+        // When
+        McpSchema.CallToolResult result = specification.call().apply(null, Map.of(parameterName, "Chicago")).block();
+
+        // Then
+        assertThat(result.isError()).isFalse();
+        Map<String, Object> coordinates = objectMapper.readValue(((McpSchema.TextContent) result.content().get(0)).text(), Map.class);
+        assertThat(coordinates)
+            .containsEntry("cityName", "Chicago")
+            .containsEntry("state", "Illinois");
+        assertThat(meterRegistry.get(ToolMetrics.TIMER)
+            .tags("tool", "GetCityCoordinates", "outcome", "SUCCESS", "error", "none")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should convert list arguments to the tool's record type")
+    void asyncToolSpecifications_ListArgument_ConvertsToRecords() throws Exception {
+        // Given
+        String parameterName = WeatherService.class.getMethod("getCurrentWeatherBatch", List.class)
+            .getParameters()[0].getName();
+        McpServerFeatures.AsyncToolSpecification specification =
+            ReactiveToolConfiguration.asyncToolSpecifications(weatherService, reactiveWeatherService, objectMapper, toolMetrics)
+                .stream()
+                .filter(candidate -> candidate.tool().name().equals("GetCurrentWeatherBatch"))
+                .findFirst()
+                .orElseThrow();
+
+        // When
+        McpSchema.CallToolResult result = specification.call()
+            .apply(null, Map.of(parameterName, List.of(Map.of("city", "Chicago")))).block();
+
+        // Then
+        assertThat(result.isError()).isFalse();
+        List<Map<String, Object>> items =
+            objectMapper.readValue(((McpSchema.TextContent) result.content().get(0)).text(), List.class);
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0)).containsEntry("location", Map.of("city", "Chicago"));
+    }
+
+    @Test
+    @DisplayName("Should reject a call that omits a required coordinate before invoking the tool")
+    void asyncToolSpecifications_MissingRequiredArgument_ReturnsValidationError() throws Exception {
+        // Given
+        String latitudeName = WeatherService.class.getMethod("getWeatherAlerts", double.class, double.class)
+            .getParameters()[0].getName();
+        McpServerFeatures.AsyncToolSpecification specification =
+            ReactiveToolConfiguration.asyncToolSpecifications(weatherService, reactiveWeatherService, objectMapper, toolMetrics)
+                .stream()
+                .filter(candidate -> candidate.tool().name().equals("GetWeatherAlerts"))
+                .findFirst()
+                .orElseThrow();
+
+        // When
+        McpSchema.CallToolResult result = specification.call().apply(null, Map.of(latitudeName, 41.8781)).block();
+
+        // Then
+        assertThat(result.isError()).isTrue();
+        assertThat(((McpSchema.TextContent) result.content().get(0)).text()).startsWith("Missing required argument: ");
+    }
+
+    @Test
+    @DisplayName("Should fail at startup when a tool has no reactive counterpart")
+    void asyncToolSpecifications_MissingImplementation_ThrowsIllegalStateException() {
+        // When & Then
+        assertThatThrownBy(() -> ReactiveToolConfiguration.asyncToolSpecifications(weatherService, new Object(), objectMapper, toolMetrics))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("No reactive implementation for tool");
+    }
+}
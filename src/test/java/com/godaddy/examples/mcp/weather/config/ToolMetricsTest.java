@@ -0,0 +1,69 @@
+package com.godaddy.examples.mcp.weather.config;
+
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ToolMetrics Tests")
+class ToolMetricsTest {
+
+    private static final ToolDefinition DEFINITION = ToolDefinition.builder()
+        .name("GetCurrentWeatherByCity")
+        .description("Get current weather for a city")
+        .inputSchema("{}")
+        .build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ToolMetrics toolMetrics = new ToolMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("Should count a failed tool call under the tool's error code")
+    void metered_FailingCallback_TagsErrorCode() {
+        // Given
+        WeatherServerException failure = new WeatherServerException("City not found: Atlantis",
+            "CITY_WEATHER_ERROR", "getCurrentWeatherByCity");
+        ToolCallback metered = toolMetrics.metered(new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return DEFINITION;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                throw new ToolExecutionException(DEFINITION, failure);
+            }
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> metered.call("{\"cityName\":\"Atlantis\"}"))
+            .isInstanceOf(ToolExecutionException.class);
+        assertThat(meterRegistry.get(ToolMetrics.TIMER)
+            .tags("tool", "GetCurrentWeatherByCity", "outcome", "ERROR", "error", "CITY_WEATHER_ERROR")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time a reactive call once it completes")
+    void metered_Mono_RecordsOnCompletion() {
+        // Given
+        Mono<String> call = toolMetrics.metered("GetCityCoordinates", Mono.just("{}"));
+
+        // When
+        call.block();
+
+        // Then
+        assertThat(meterRegistry.get(ToolMetrics.TIMER)
+            .tags("tool", "GetCityCoordinates", "outcome", "SUCCESS", "error", "none")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+}
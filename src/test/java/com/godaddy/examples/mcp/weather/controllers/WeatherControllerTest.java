@@ -1,23 +1,44 @@
 package com.godaddy.examples.mcp.weather.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
 import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import com.godaddy.examples.mcp.weather.services.BatchError;
+import com.godaddy.examples.mcp.weather.services.BatchLocation;
+import com.godaddy.examples.mcp.weather.services.BatchResult;
+import com.godaddy.examples.mcp.weather.services.CityForecastPeriod;
+import com.godaddy.examples.mcp.weather.services.CityWeather;
+import com.godaddy.examples.mcp.weather.services.CityWeatherBundle;
+import com.godaddy.examples.mcp.weather.services.CurrentWeather;
+import com.godaddy.examples.mcp.weather.services.ForecastResult;
+import com.godaddy.examples.mcp.weather.services.ForecastValidity;
+import com.godaddy.examples.mcp.weather.services.LocationInfo;
+import com.godaddy.examples.mcp.weather.services.WeatherPeriod;
 import com.godaddy.examples.mcp.weather.services.WeatherService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,41 +48,40 @@ class WeatherControllerTest {
     @Mock
     private WeatherService weatherService;
 
-    @InjectMocks
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private WeatherController weatherController;
 
-    private Map<String, Object> sampleWeatherData;
-    private List<Map<String, Object>> sampleForecastData;
+    private CityWeather sampleWeatherData;
+    private List<CityForecastPeriod> sampleForecastData;
     private List<String> sampleCities;
 
     @BeforeEach
     void setUp() {
-        sampleWeatherData = Map.of(
-            "location", "41.8781, -87.6298",
-            "name", "Tonight",
-            "temperature", "32°F",
-            "windSpeed", "5 mph",
-            "windDirection", "NW",
-            "shortForecast", "Partly Cloudy",
-            "detailedForecast", "Partly cloudy, with a low around 32...",
-            "cityName", "Chicago",
-            "coordinates", "41.8781, -87.6298"
+        weatherController = new WeatherController(weatherService, objectMapper, new WeatherCacheProperties());
+
+        sampleWeatherData = new CityWeather(
+            new CurrentWeather(
+                "41.8781, -87.6298",
+                "Tonight",
+                "32°F",
+                "5 mph",
+                "NW",
+                "Partly Cloudy",
+                "Partly cloudy, with a low around 32..."
+            ),
+            "Chicago",
+            "41.8781, -87.6298"
         );
 
         sampleForecastData = List.of(
-            Map.of(
-                "name", "Tonight",
-                "temperature", "32°F",
-                "windSpeed", "5 mph",
-                "shortForecast", "Partly Cloudy",
-                "isDaytime", false
+            new CityForecastPeriod(
+                new WeatherPeriod("Tonight", "32°F", "5 mph", null, "Partly Cloudy", null, false),
+                "Chicago"
             ),
-            Map.of(
-                "name", "Tomorrow",
-                "temperature", "45°F",
-                "windSpeed", "8 mph",
-                "shortForecast", "Sunny",
-                "isDaytime", true
+            new CityForecastPeriod(
+                new WeatherPeriod("Tomorrow", "45°F", "8 mph", null, "Sunny", null, true),
+                "Chicago"
             )
         );
 
@@ -70,38 +90,200 @@ class WeatherControllerTest {
 
     @Test
     @DisplayName("Should return weather data for valid city")
-    void getWeather_ValidCity_ReturnsWeatherData() {
+    void getWeather_ValidCity_ReturnsWeatherData() throws Exception {
         // Given
         String cityName = "Chicago";
-        when(weatherService.getCurrentWeather(cityName)).thenReturn(sampleWeatherData);
+        when(weatherService.getCurrentWeather(cityName)).thenReturn(result(sampleWeatherData, null));
 
         // When
-        ResponseEntity<Map<String, Object>> response = weatherController.getWeather(cityName);
+        ResponseEntity<byte[]> response = weatherController.getWeather(cityName, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).containsEntry("cityName", "Chicago");
-        assertThat(response.getBody()).containsEntry("temperature", "32°F");
-        assertThat(response.getBody()).containsEntry("shortForecast", "Partly Cloudy");
+        Map<?, ?> body = objectMapper.readValue(response.getBody(), Map.class);
+        assertThat(body.get("cityName")).isEqualTo("Chicago");
+        assertThat(body.get("temperature")).isEqualTo("32°F");
+        assertThat(body.get("shortForecast")).isEqualTo("Partly Cloudy");
+        assertThat(response.getHeaders().getETag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("Should write the stored body while the forecast version is unchanged")
+    void getWeather_SameForecastVersion_ReusesSerializedBody() {
+        // Given
+        String cityName = "Chicago";
+        when(weatherService.getForecastValidity(cityName)).thenReturn(Optional.of(validity(7)));
+        when(weatherService.getCurrentWeather(cityName)).thenReturn(result(sampleWeatherData, validity(7)));
+
+        // When
+        ResponseEntity<byte[]> first = weatherController.getWeather(cityName, null);
+        ResponseEntity<byte[]> second = weatherController.getWeather(cityName, null);
+
+        // Then
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        verify(weatherService, times(1)).getCurrentWeather(cityName);
+    }
+
+    @Test
+    @DisplayName("Should render again once a new forecast arrives")
+    void getWeather_NewForecastVersion_RendersAgain() {
+        // Given
+        String cityName = "Chicago";
+        CityWeather warmer = new CityWeather(
+            new CurrentWeather("41.8781, -87.6298", "Today", "45°F", "8 mph", "S", "Sunny", "Sunny, high near 45"),
+            "Chicago",
+            "41.8781, -87.6298"
+        );
+        when(weatherService.getForecastValidity(cityName)).thenReturn(Optional.of(validity(7)), Optional.of(validity(8)));
+        when(weatherService.getCurrentWeather(cityName))
+            .thenReturn(result(sampleWeatherData, validity(7)), result(warmer, validity(8)));
+
+        // When
+        ResponseEntity<byte[]> first = weatherController.getWeather(cityName, null);
+        ResponseEntity<byte[]> second = weatherController.getWeather(cityName, null);
+
+        // Then
+        assertThat(new String(second.getBody())).contains("45°F");
+        assertThat(second.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+        verify(weatherService, times(2)).getCurrentWeather(cityName);
+    }
+
+    @Test
+    @DisplayName("Should keep the stale body and its ETag while the forecast stays stale at the same age")
+    void getWeather_StaleForecastSameAge_AnswersNotModified() {
+        // Given
+        String cityName = "Chicago";
+        ForecastValidity stale = new ForecastValidity(7, 120L, Instant.now().minus(Duration.ofMinutes(3)), null);
+        when(weatherService.getForecastValidity(cityName)).thenReturn(Optional.of(validity(7)), Optional.of(stale));
+        when(weatherService.getCurrentWeather(cityName)).thenReturn(result(sampleWeatherData, validity(7)),
+            result(new CityWeather(new CurrentWeather("41.8781, -87.6298", "Tonight", "32°F", "10 mph", "NW",
+                "Partly Cloudy", "Partly cloudy, with a low around 32.", true, 120L), "Chicago", "41.8781, -87.6298"),
+                stale));
+
+        // When
+        ResponseEntity<byte[]> fresh = weatherController.getWeather(cityName, null);
+        ResponseEntity<byte[]> first = weatherController.getWeather(cityName, null);
+        ResponseEntity<byte[]> second = weatherController.getWeather(cityName, first.getHeaders().getETag());
+
+        // Then
+        assertThat(new String(first.getBody())).contains("\"stale\":true");
+        assertThat(first.getHeaders().getETag()).isNotEqualTo(fresh.getHeaders().getETag());
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(weatherService, times(2)).getCurrentWeather(cityName);
+    }
+
+    @Test
+    @DisplayName("Should not reuse a body rendered for a differently spelled city name")
+    void getWeather_DifferentSpelling_RendersRequestedName() throws Exception {
+        // Given
+        CityWeather lowerCase = new CityWeather(sampleWeatherData.weather(), "chicago", "41.8781, -87.6298");
+        when(weatherService.getForecastValidity("Chicago")).thenReturn(Optional.of(validity(7)));
+        when(weatherService.getForecastValidity("chicago")).thenReturn(Optional.of(validity(7)));
+        when(weatherService.getCurrentWeather("Chicago")).thenReturn(result(sampleWeatherData, validity(7)));
+        when(weatherService.getCurrentWeather("chicago")).thenReturn(result(lowerCase, validity(7)));
+
+        // When
+        weatherController.getWeather("Chicago", null);
+        ResponseEntity<byte[]> response = weatherController.getWeather("chicago", null);
+
+        // Then
+        assertThat(objectMapper.readValue(response.getBody(), Map.class).get("cityName")).isEqualTo("chicago");
+    }
+
+    @Test
+    @DisplayName("Should keep one body per spelling when requests alternate between spellings")
+    void getWeather_AlternatingSpellings_RendersEachOnce() {
+        // Given
+        CityWeather lowerCase = new CityWeather(sampleWeatherData.weather(), "chicago", "41.8781, -87.6298");
+        when(weatherService.getForecastValidity(any())).thenReturn(Optional.of(validity(7)));
+        when(weatherService.getCurrentWeather("Chicago")).thenReturn(result(sampleWeatherData, validity(7)));
+        when(weatherService.getCurrentWeather("chicago")).thenReturn(result(lowerCase, validity(7)));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            weatherController.getWeather("Chicago", null);
+            weatherController.getWeather("chicago", null);
+        }
+
+        // Then
+        verify(weatherService, times(1)).getCurrentWeather("Chicago");
+        verify(weatherService, times(1)).getCurrentWeather("chicago");
+    }
+
+    @Test
+    @DisplayName("Should file a body under the forecast version it was rendered from")
+    void getWeather_ForecastRefreshedBeforeRender_StoresRenderedVersion() {
+        // Given
+        String cityName = "Chicago";
+        ForecastValidity refreshed = new ForecastValidity(8, null, Instant.now().plus(Duration.ofMinutes(10)),
+            "Mon, 15 Jan 2024 12:05:00 GMT");
+        when(weatherService.getForecastValidity(cityName)).thenReturn(Optional.of(validity(7)), Optional.of(refreshed));
+        when(weatherService.getCurrentWeather(cityName)).thenReturn(result(sampleWeatherData, refreshed));
+
+        // When
+        ResponseEntity<byte[]> first = weatherController.getWeather(cityName, null);
+        ResponseEntity<byte[]> second = weatherController.getWeather(cityName, null);
+
+        // Then
+        assertThat(first.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED)).isEqualTo("Mon, 15 Jan 2024 12:05:00 GMT");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        verify(weatherService, times(1)).getCurrentWeather(cityName);
     }
 
     @Test
     @DisplayName("Should return forecast data for valid city")
-    void getForecast_ValidCity_ReturnsForecastData() {
+    void getForecast_ValidCity_ReturnsForecastData() throws Exception {
         // Given
         String cityName = "Chicago";
-        when(weatherService.getWeatherForecast(cityName, 5)).thenReturn(sampleForecastData);
+        when(weatherService.getWeatherForecast(cityName, 5)).thenReturn(result(sampleForecastData, null));
 
         // When
-        ResponseEntity<List<Map<String, Object>>> response = weatherController.getForecast(cityName);
+        ResponseEntity<byte[]> response = weatherController.getForecast(cityName, 5, null, false, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).hasSize(2);
-        assertThat(response.getBody().get(0)).containsEntry("name", "Tonight");
-        assertThat(response.getBody().get(1)).containsEntry("name", "Tomorrow");
+        List<?> body = objectMapper.readValue(response.getBody(), List.class);
+        assertThat(body).hasSize(2);
+        assertThat(((Map<?, ?>) body.get(0)).get("name")).isEqualTo("Tonight");
+        assertThat(((Map<?, ?>) body.get(1)).get("name")).isEqualTo("Tomorrow");
+        assertThat(((Map<?, ?>) body.get(0)).get("cityName")).isEqualTo("Chicago");
+    }
+
+    @Test
+    @DisplayName("Should return per-location current weather for a batch")
+    void getBatch_CurrentWeather_ReturnsServiceResults() {
+        // Given
+        List<BatchLocation> locations = List.of(BatchLocation.ofCity("Chicago"), BatchLocation.ofCity("Atlantis"));
+        List<BatchResult<CurrentWeather>> results = List.of(
+            new BatchResult<>(locations.get(0), sampleWeatherData.weather(), null),
+            new BatchResult<>(locations.get(1), null, new BatchError("CITY_NOT_FOUND", "City not found: Atlantis")));
+        when(weatherService.getCurrentWeatherBatch(locations)).thenReturn(results);
+
+        // When
+        ResponseEntity<List<?>> response = weatherController.getBatch(new WeatherBatchRequest(locations, false, null, null));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(results);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-store");
+    }
+
+    @Test
+    @DisplayName("Should pass days and fields through for a forecast batch")
+    void getBatch_Forecast_UsesForecastBatch() {
+        // Given
+        List<BatchLocation> locations = List.of(BatchLocation.ofCoordinates(41.8781, -87.6298));
+        when(weatherService.getWeatherForecastBatch(locations, 2, "compact")).thenReturn(List.of());
+
+        // When
+        ResponseEntity<List<?>> response = weatherController.getBatch(new WeatherBatchRequest(locations, true, 2, "compact"));
+
+        // Then
+        assertThat(response.getBody()).isEmpty();
+        verify(weatherService, never()).getCurrentWeatherBatch(any());
     }
 
     @Test
@@ -120,6 +302,176 @@ class WeatherControllerTest {
         assertThat(response.getBody()).contains("Chicago", "New York", "Los Angeles");
     }
 
+    @Test
+    @DisplayName("Should let caches keep the supported cities for a day")
+    void getSupportedCities_Always_SendsLongMaxAge() {
+        // Given
+        when(weatherService.getSupportedCities()).thenReturn(sampleCities);
+
+        // When
+        ResponseEntity<List<String>> response = weatherController.getSupportedCities();
+
+        // Then
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=86400, public");
+    }
+
+    @Test
+    @DisplayName("Should send caching headers taken from the upstream forecast validity")
+    void getWeather_FreshForecast_SendsCacheHeaders() {
+        // Given
+        String cityName = "Chicago";
+        ForecastValidity validity = new ForecastValidity(7, null, Instant.now().plus(Duration.ofMinutes(10)),
+            "Mon, 15 Jan 2024 12:00:00 GMT");
+        when(weatherService.getForecastValidity(cityName)).thenReturn(Optional.of(validity));
+        when(weatherService.getCurrentWeather(cityName)).thenReturn(result(sampleWeatherData, validity));
+
+        // When
+        ResponseEntity<byte[]> response = weatherController.getWeather(cityName, null);
+
+        // Then
+        assertThat(response.getHeaders().getCacheControl()).matches("max-age=(599|600), public");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED)).isEqualTo("Mon, 15 Jan 2024 12:00:00 GMT");
+        assertThat(response.getHeaders().getETag()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with an empty 304")
+    void getForecast_MatchingIfNoneMatch_ReturnsNotModified() {
+        // Given
+        String cityName = "Chicago";
+        when(weatherService.getForecastValidity(cityName)).thenReturn(Optional.of(validity(7)));
+        when(weatherService.getWeatherForecast(cityName, 5)).thenReturn(result(sampleForecastData, validity(7)));
+        String etag = weatherController.getForecast(cityName, 5, null, false, null).getHeaders().getETag();
+
+        // When
+        ResponseEntity<byte[]> response = weatherController.getForecast(cityName, 5, null, false, "W/" + etag);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getHeaders().getCacheControl()).startsWith("max-age=");
+    }
+
+    @Test
+    @DisplayName("Should return the full body when If-None-Match does not match")
+    void getForecast_StaleIfNoneMatch_ReturnsBody() {
+        // Given
+        String cityName = "Chicago";
+        when(weatherService.getWeatherForecast(cityName, 5)).thenReturn(result(sampleForecastData, null));
+
+        // When
+        ResponseEntity<byte[]> response = weatherController.getForecast(cityName, 5, null, false, "\"outdated\"");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("Should return only the compact forecast fields when compact is requested")
+    void getForecast_Compact_ReturnsCompactPeriods() throws Exception {
+        // Given
+        String cityName = "Chicago";
+        when(weatherService.getWeatherForecast(cityName, 5)).thenReturn(result(sampleForecastData, null));
+
+        // When
+        ResponseEntity<byte[]> response = weatherController.getForecast(cityName, 5, null, true, null);
+
+        // Then
+        List<Map<String, Object>> body = objectMapper.readValue(response.getBody(), List.class);
+        assertThat(body.get(0))
+            .containsOnlyKeys("name", "temperature", "shortForecast", "isDaytime", "cityName")
+            .containsEntry("name", "Tonight");
+    }
+
+    @Test
+    @DisplayName("Should cache each field selection separately for the same forecast version")
+    void getForecast_DifferentFields_RendersEachSelection() throws Exception {
+        // Given
+        String cityName = "Chicago";
+        when(weatherService.getForecastValidity(cityName)).thenReturn(Optional.of(validity(7)));
+        when(weatherService.getWeatherForecast(cityName, 5)).thenReturn(result(sampleForecastData, validity(7)));
+
+        // When
+        ResponseEntity<byte[]> full = weatherController.getForecast(cityName, 5, null, false, null);
+        ResponseEntity<byte[]> names = weatherController.getForecast(cityName, 5, "temperature,name", false, null);
+
+        // Then
+        assertThat(full.getHeaders().getETag()).isNotEqualTo(names.getHeaders().getETag());
+        List<Map<String, Object>> body = objectMapper.readValue(names.getBody(), List.class);
+        assertThat(body.get(1).keySet()).containsExactly("name", "temperature", "cityName");
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown forecast field before calling the service")
+    void getForecast_UnknownField_ThrowsInvalidFields() {
+        // When & Then
+        assertThatThrownBy(() -> weatherController.getForecast("Chicago", 5, "humidity", false, null))
+            .isInstanceOf(WeatherServerException.class)
+            .extracting("errorCode")
+            .isEqualTo("INVALID_FIELDS");
+        verify(weatherService, never()).getWeatherForecast(any(String.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should pass the requested days to the service and cache each horizon separately")
+    void getForecast_DaysGiven_RequestsThatManyDays() {
+        // Given
+        String cityName = "Chicago";
+        when(weatherService.getForecastValidity(cityName)).thenReturn(Optional.of(validity(7)));
+        when(weatherService.getWeatherForecast(cityName, 1)).thenReturn(result(sampleForecastData.subList(0, 1), validity(7)));
+        when(weatherService.getWeatherForecast(cityName, 5)).thenReturn(result(sampleForecastData, validity(7)));
+
+        // When
+        ResponseEntity<byte[]> oneDay = weatherController.getForecast(cityName, 1, null, false, null);
+        ResponseEntity<byte[]> fiveDays = weatherController.getForecast(cityName, 5, null, false, null);
+
+        // Then
+        assertThat(oneDay.getHeaders().getETag()).isNotEqualTo(fiveDays.getHeaders().getETag());
+        verify(weatherService).getWeatherForecast(cityName, 1);
+    }
+
+    @Test
+    @DisplayName("Should reject days outside the forecast range before calling the service")
+    void getForecast_DaysOutOfRange_ThrowsInvalidDays() {
+        // When & Then
+        assertThatThrownBy(() -> weatherController.getForecast("Chicago", 8, null, false, null))
+            .isInstanceOf(WeatherServerException.class)
+            .extracting("errorCode")
+            .isEqualTo("INVALID_DAYS");
+        verify(weatherService, never()).getWeatherForecast(any(String.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return the weather bundle for valid city")
+    void getBundle_ValidCity_ReturnsBundle() throws Exception {
+        // Given
+        String cityName = "Chicago";
+        List<WeatherPeriod> forecast = sampleForecastData.stream().map(CityForecastPeriod::period).toList();
+        CityWeatherBundle bundle = new CityWeatherBundle(
+            "Chicago",
+            "41.8781, -87.6298",
+            new LocationInfo("Chicago", "IL", "LOT", 76, 73, "America/Chicago"),
+            sampleWeatherData.weather(),
+            forecast,
+            List.of()
+        );
+        when(weatherService.getCityWeatherBundle(cityName)).thenReturn(bundle);
+
+        // When
+        ResponseEntity<byte[]> response = weatherController.getBundle(cityName, null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        Map<?, ?> body = objectMapper.readValue(response.getBody(), Map.class);
+        assertThat(body.get("cityName")).isEqualTo("Chicago");
+        assertThat((List<?>) body.get("forecast")).hasSize(2);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+    }
+
     @Test
     @DisplayName("Should handle city not found exception with 404 status")
     void handleWeatherServerException_CityNotFound_Returns404() {
@@ -143,6 +495,24 @@ class WeatherControllerTest {
         assertThat(response.getBody()).containsKey("timestamp");
     }
 
+    @Test
+    @DisplayName("Should handle invalid forecast fields with 400 status")
+    void handleWeatherServerException_InvalidFields_Returns400() {
+        // Given
+        WeatherServerException exception = new WeatherServerException(
+            "Unknown forecast field: humidity",
+            "INVALID_FIELDS",
+            "getWeatherForecast"
+        );
+
+        // When
+        ResponseEntity<Map<String, Object>> response = weatherController.handleWeatherServerException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).containsEntry("errorCode", "INVALID_FIELDS");
+    }
+
     @Test
     @DisplayName("Should handle geocoding error with 502 status")
     void handleWeatherServerException_GeocodingError_Returns502() {
@@ -181,6 +551,30 @@ class WeatherControllerTest {
         assertThat(response.getBody()).containsEntry("errorCode", "NWS_GRID_ERROR");
     }
 
+    @Test
+    @DisplayName("Should report a wrapped open circuit with 503 status")
+    void handleWeatherServerException_WrappedCircuitOpen_Returns503() {
+        // Given
+        WeatherServerException circuitOpen = new WeatherServerException(
+            "Circuit open for nws-forecasts",
+            "UPSTREAM_CIRCUIT_OPEN",
+            "nws-forecasts"
+        );
+        WeatherServerException exception = new WeatherServerException(
+            "Failed to fetch weather data for Chicago: Circuit open for nws-forecasts",
+            "CITY_WEATHER_ERROR",
+            "getCurrentWeatherByCity",
+            circuitOpen
+        );
+
+        // When
+        ResponseEntity<Map<String, Object>> response = weatherController.handleWeatherServerException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).containsEntry("errorCode", "UPSTREAM_CIRCUIT_OPEN");
+    }
+
     @Test
     @DisplayName("Should handle general weather fetch error with 500 status")
     void handleWeatherServerException_GeneralError_Returns500() {
@@ -238,4 +632,12 @@ class WeatherControllerTest {
         assertThat(body.get("timestamp")).isInstanceOf(Long.class);
         assertThat((Long) body.get("timestamp")).isGreaterThan(0);
     }
-}
\ No newline at end of file
+
+    private static <T> ForecastResult<T> result(T value, ForecastValidity validity) {
+        return new ForecastResult<>(value, validity);
+    }
+
+    private static ForecastValidity validity(long version) {
+        return new ForecastValidity(version, null, Instant.now().plus(Duration.ofMinutes(5)), null);
+    }
+}
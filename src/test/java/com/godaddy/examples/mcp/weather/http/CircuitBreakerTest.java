@@ -0,0 +1,64 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("Should refuse calls while open")
+    void tryAcquire_Open_Refuses() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker("forecasts", 2, Duration.ofMinutes(1));
+
+        // When
+        breaker.onFailure();
+        boolean afterOneFailure = breaker.tryAcquire();
+        breaker.onFailure();
+
+        // Then
+        assertThat(afterOneFailure).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should let a single trial call through once the open duration has passed")
+    void tryAcquire_OpenDurationPassed_AllowsOneTrial() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker("forecasts", 1, Duration.ZERO);
+        breaker.onFailure();
+
+        // When
+        boolean trial = breaker.tryAcquire();
+        boolean concurrent = breaker.tryAcquire();
+        breaker.onSuccess();
+
+        // Then
+        assertThat(trial).isTrue();
+        assertThat(concurrent).isFalse();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should re-open when the trial call fails")
+    void onFailure_HalfOpen_ReopensCircuit() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker("forecasts", 3, Duration.ZERO);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.tryAcquire();
+
+        // When
+        breaker.onFailure();
+
+        // Then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,169 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("HttpResponseCacheInterceptor Tests")
+class HttpResponseCacheInterceptorTest {
+
+    private static final String FORECAST_URL = "https://api.weather.gov/gridpoints/LOT/31,76/forecast";
+    private static final String FORECAST_BODY = "{\"properties\":{\"periods\":[]}}";
+    private static final String POINTS_URL = "https://api.weather.gov/points/41.8781,-87.6298";
+    private static final String ZONE_URL = "https://api.weather.gov/zones/forecast/ILZ014";
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private HttpResponseCacheInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new HttpResponseCacheInterceptor(
+            new WeatherCacheProperties.Spec(100, Duration.ofHours(1), Duration.ZERO));
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(interceptor);
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    @DisplayName("Should serve repeat requests from memory while max-age is fresh")
+    void intercept_FreshMaxAge_ServesFromCache() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("public, max-age=600, s-maxage=900");
+        server.expect(ExpectedCount.once(), requestTo(FORECAST_URL))
+            .andRespond(withSuccess(FORECAST_BODY, MediaType.APPLICATION_JSON).headers(headers));
+
+        // When
+        ResponseEntity<String> first = restTemplate.getForEntity(FORECAST_URL, String.class);
+        ResponseEntity<String> second = restTemplate.getForEntity(FORECAST_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(first.getBody()).isEqualTo(FORECAST_BODY);
+        assertThat(second.getBody()).isEqualTo(FORECAST_BODY);
+        assertThat(second.getHeaders().getFirst(HttpHeaders.AGE)).isNotNull();
+        assertThat(interceptor.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should honor Expires when no max-age is given")
+    void intercept_FutureExpires_ServesFromCache() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setExpires(System.currentTimeMillis() + Duration.ofMinutes(10).toMillis());
+        server.expect(ExpectedCount.once(), requestTo(FORECAST_URL))
+            .andRespond(withSuccess(FORECAST_BODY, MediaType.APPLICATION_JSON).headers(headers));
+
+        // When
+        restTemplate.getForEntity(FORECAST_URL, String.class);
+        restTemplate.getForEntity(FORECAST_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(interceptor.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not store responses marked no-store")
+    void intercept_NoStore_AlwaysCallsUpstream() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("no-store, max-age=600");
+        server.expect(ExpectedCount.twice(), requestTo(FORECAST_URL))
+            .andRespond(withSuccess(FORECAST_BODY, MediaType.APPLICATION_JSON).headers(headers));
+
+        // When
+        restTemplate.getForEntity(FORECAST_URL, String.class);
+        restTemplate.getForEntity(FORECAST_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(interceptor.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not store responses without freshness information")
+    void intercept_NoCacheHeaders_AlwaysCallsUpstream() {
+        // Given
+        server.expect(ExpectedCount.twice(), requestTo(FORECAST_URL))
+            .andRespond(withSuccess(FORECAST_BODY, MediaType.APPLICATION_JSON));
+
+        // When
+        restTemplate.getForEntity(FORECAST_URL, String.class);
+        restTemplate.getForEntity(FORECAST_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(interceptor.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pass oversized bodies through intact without storing them")
+    void intercept_BodyOverLimit_StreamsWithoutStoring() {
+        // Given
+        String largeBody = "{\"features\":\"" + "x".repeat(1024 * 1024) + "\"}";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=600");
+        server.expect(ExpectedCount.twice(), requestTo(FORECAST_URL))
+            .andRespond(withSuccess(largeBody, MediaType.APPLICATION_JSON).headers(headers));
+
+        // When
+        ResponseEntity<String> first = restTemplate.getForEntity(FORECAST_URL, String.class);
+        restTemplate.getForEntity(FORECAST_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(first.getBody()).isEqualTo(largeBody);
+        assertThat(interceptor.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave points responses to the grid point cache")
+    void intercept_PointsLookup_NotStored() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=600");
+        server.expect(ExpectedCount.twice(), requestTo(POINTS_URL))
+            .andRespond(withSuccess(FORECAST_BODY, MediaType.APPLICATION_JSON).headers(headers));
+
+        // When
+        restTemplate.getForEntity(POINTS_URL, String.class);
+        restTemplate.getForEntity(POINTS_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(interceptor.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave zone polygons to the alert index's zone cache")
+    void intercept_ZoneLookup_NotStored() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=600");
+        server.expect(ExpectedCount.twice(), requestTo(ZONE_URL))
+            .andRespond(withSuccess("{\"geometry\":null}", MediaType.APPLICATION_JSON).headers(headers));
+
+        // When
+        restTemplate.getForEntity(ZONE_URL, String.class);
+        restTemplate.getForEntity(ZONE_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(interceptor.stats().size()).isZero();
+    }
+}
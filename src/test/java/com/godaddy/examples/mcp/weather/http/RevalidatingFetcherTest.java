@@ -0,0 +1,237 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("RevalidatingFetcher Tests")
+class RevalidatingFetcherTest {
+
+    private static final String ALERTS_URL = "https://api.weather.gov/alerts/active?point=41.8781,-87.6298";
+    private static final String LAST_MODIFIED = "Mon, 15 Jan 2024 12:00:00 GMT";
+
+    private MockRestServiceServer server;
+    private AtomicInteger projections;
+    private RevalidatingFetcher<String, Integer> fetcher;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        projections = new AtomicInteger();
+        fetcher = new RevalidatingFetcher<>("alerts", restTemplate, String.class, body -> {
+            projections.incrementAndGet();
+            return body.length();
+        }, RevalidatingFetcher.Settings.of(new WeatherCacheProperties.Spec(100, Duration.ofHours(1), Duration.ZERO)));
+    }
+
+    @Test
+    @DisplayName("Should return the stored projection without a request while fresh")
+    void fetch_FreshEntry_SkipsUpstream() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=300");
+        server.expect(ExpectedCount.once(), requestTo(ALERTS_URL))
+            .andRespond(withSuccess("{\"features\":[]}", MediaType.APPLICATION_JSON).headers(headers));
+
+        // When
+        fetcher.fetch(ALERTS_URL);
+        Integer second = fetcher.fetch(ALERTS_URL);
+
+        // Then
+        server.verify();
+        assertThat(second).isEqualTo(15);
+        assertThat(projections.get()).isEqualTo(1);
+        assertThat(fetcher.stats().freshHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should revalidate with If-Modified-Since and skip projection on 304")
+    void fetch_StaleEntryWithLastModified_SendsConditionalRequest() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED);
+        server.expect(requestTo(ALERTS_URL))
+            .andRespond(withSuccess("{\"features\":[]}", MediaType.APPLICATION_JSON).headers(headers));
+        server.expect(requestTo(ALERTS_URL))
+            .andExpect(header(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED))
+            .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        // When
+        fetcher.fetch(ALERTS_URL);
+        Integer second = fetcher.fetch(ALERTS_URL);
+
+        // Then
+        server.verify();
+        assertThat(second).isEqualTo(15);
+        assertThat(projections.get()).isEqualTo(1);
+        assertThat(fetcher.stats().notModified()).isEqualTo(1);
+        assertThat(fetcher.stats().fullFetches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should download in full when the upstream sends no validators")
+    void fetch_NoValidators_AlwaysFullFetch() {
+        // Given
+        server.expect(ExpectedCount.twice(), requestTo(ALERTS_URL))
+            .andRespond(withSuccess("{\"features\":[]}", MediaType.APPLICATION_JSON));
+
+        // When
+        fetcher.fetch(ALERTS_URL);
+        fetcher.fetch(ALERTS_URL);
+
+        // Then
+        server.verify();
+        assertThat(projections.get()).isEqualTo(2);
+        assertThat(fetcher.stats().fullFetches()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a projection fresh for min-fresh even without upstream freshness")
+    void fetch_MinFresh_ServesWithoutRequest() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        RevalidatingFetcher<String, Integer> minFreshFetcher = new RevalidatingFetcher<>("forecasts", restTemplate,
+            String.class, String::length, RevalidatingFetcher.Settings.of(
+                new WeatherCacheProperties.Spec(100, Duration.ofHours(1), Duration.ZERO, Duration.ofMinutes(5))));
+        server.expect(ExpectedCount.once(), requestTo(ALERTS_URL))
+            .andRespond(withSuccess("{\"features\":[]}", MediaType.APPLICATION_JSON));
+
+        // When
+        minFreshFetcher.fetch(ALERTS_URL);
+        minFreshFetcher.fetch(ALERTS_URL);
+
+        // Then
+        server.verify();
+        assertThat(minFreshFetcher.stats().freshHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should revalidate no-cache responses despite min-fresh")
+    void fetch_NoCacheWithMinFresh_Revalidates() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        RevalidatingFetcher<String, Integer> minFreshFetcher = new RevalidatingFetcher<>("forecasts", restTemplate,
+            String.class, String::length, RevalidatingFetcher.Settings.of(
+                new WeatherCacheProperties.Spec(100, Duration.ofHours(1), Duration.ZERO, Duration.ofMinutes(5))));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("no-cache");
+        headers.setETag("\"v1\"");
+        server.expect(requestTo(ALERTS_URL))
+            .andRespond(withSuccess("{\"features\":[]}", MediaType.APPLICATION_JSON).headers(headers));
+        server.expect(requestTo(ALERTS_URL))
+            .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+            .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        // When
+        minFreshFetcher.fetch(ALERTS_URL);
+        minFreshFetcher.fetch(ALERTS_URL);
+
+        // Then
+        server.verify();
+        assertThat(minFreshFetcher.stats().notModified()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve a stale entry at once and revalidate it once in the background")
+    void fetchWithValidity_WithinStaleWhileRevalidate_ServesStaleAndRefreshesInBackground() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        List<Runnable> refreshes = new ArrayList<>();
+        RevalidatingFetcher<String, Integer> swrFetcher = new RevalidatingFetcher<>("forecasts", restTemplate,
+            String.class, String::length, RevalidatingFetcher.Settings.of(new WeatherCacheProperties.Spec(100,
+                Duration.ofHours(1), Duration.ZERO, Duration.ZERO, Duration.ofMinutes(10), Duration.ZERO))
+                .withRefreshExecutor(refreshes::add));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        server.expect(requestTo(ALERTS_URL))
+            .andRespond(withSuccess("{\"features\":[]}", MediaType.APPLICATION_JSON).headers(headers));
+        server.expect(requestTo(ALERTS_URL))
+            .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+            .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        // When
+        swrFetcher.fetch(ALERTS_URL);
+        RevalidatingFetcher.Fetched<Integer> stale = swrFetcher.fetchWithValidity(ALERTS_URL);
+        swrFetcher.fetchWithValidity(ALERTS_URL);
+        refreshes.forEach(Runnable::run);
+
+        // Then
+        server.verify();
+        assertThat(stale.value()).isEqualTo(15);
+        assertThat(stale.stale()).isTrue();
+        assertThat(refreshes).hasSize(1);
+        assertThat(swrFetcher.stats().staleWhileRevalidate()).isEqualTo(2);
+        assertThat(swrFetcher.stats().notModified()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the stored entry marked stale when upstream fails within stale-if-error")
+    void fetchWithValidity_ServerErrorWithinStaleIfError_ServesStale() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        RevalidatingFetcher<String, Integer> staleIfErrorFetcher = new RevalidatingFetcher<>("forecasts", restTemplate,
+            String.class, String::length, RevalidatingFetcher.Settings.of(new WeatherCacheProperties.Spec(100,
+                Duration.ofHours(1), Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ofHours(1))));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        server.expect(requestTo(ALERTS_URL))
+            .andRespond(withSuccess("{\"features\":[]}", MediaType.APPLICATION_JSON).headers(headers));
+        server.expect(requestTo(ALERTS_URL))
+            .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // When
+        RevalidatingFetcher.Fetched<Integer> first = staleIfErrorFetcher.fetchWithValidity(ALERTS_URL);
+        RevalidatingFetcher.Fetched<Integer> second = staleIfErrorFetcher.fetchWithValidity(ALERTS_URL);
+
+        // Then
+        server.verify();
+        assertThat(first.stale()).isFalse();
+        assertThat(second.value()).isEqualTo(15);
+        assertThat(second.stale()).isTrue();
+        assertThat(second.fetchedAt()).isEqualTo(first.fetchedAt());
+        assertThat(staleIfErrorFetcher.stats().staleOnError()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should surface upstream failures when stale-if-error is disabled")
+    void fetch_ServerErrorWithoutStaleIfError_Throws() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        server.expect(requestTo(ALERTS_URL))
+            .andRespond(withSuccess("{\"features\":[]}", MediaType.APPLICATION_JSON).headers(headers));
+        server.expect(requestTo(ALERTS_URL))
+            .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        fetcher.fetch(ALERTS_URL);
+
+        // When & Then
+        assertThatThrownBy(() -> fetcher.fetch(ALERTS_URL))
+            .isInstanceOf(HttpServerErrorException.class);
+        assertThat(fetcher.stats().staleOnError()).isZero();
+    }
+}
@@ -0,0 +1,182 @@
+package com.godaddy.examples.mcp.weather.http;
+
+import com.godaddy.examples.mcp.weather.config.WeatherResilienceProperties;
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("UpstreamGuardInterceptor Tests")
+class UpstreamGuardInterceptorTest {
+
+    private static final String FORECAST_URL = "https://api.weather.gov/gridpoints/LOT/31,76/forecast";
+    private static final String POINTS_URL = "https://api.weather.gov/points/41.8781,-87.6298";
+    private static final String ZONE_URL = "https://api.weather.gov/zones/forecast/ILZ014";
+    private static final String FORECAST_BODY = "{\"properties\":{\"periods\":[]}}";
+
+    private WeatherResilienceProperties properties;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private UpstreamGuardInterceptor interceptor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WeatherResilienceProperties();
+        properties.getForecasts().setFailureThreshold(2);
+        properties.getForecasts().setOpenDuration(Duration.ofMinutes(1));
+        properties.getRetry().setInitialBackoff(Duration.ZERO);
+        bind();
+    }
+
+    private void bind() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new UpstreamGuardInterceptor(properties, new UpstreamMetrics(meterRegistry));
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(interceptor);
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    @DisplayName("Should retry a GET that failed with a server error")
+    void intercept_ServerErrorThenSuccess_RetriesGet() {
+        // Given
+        server.expect(requestTo(FORECAST_URL)).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        server.expect(requestTo(FORECAST_URL)).andRespond(withSuccess(FORECAST_BODY, MediaType.APPLICATION_JSON));
+
+        // When
+        String body = restTemplate.getForObject(FORECAST_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(body).isEqualTo(FORECAST_BODY);
+        assertThat(interceptor.circuitStates()).containsEntry("nws-forecasts", CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get(UpstreamMetrics.TIMER)
+            .tags("upstream", "nws-forecasts", "outcome", "SUCCESS")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after consecutive failed requests and then fail fast")
+    void intercept_RepeatedServerErrors_OpensCircuit() {
+        // Given
+        server.expect(ExpectedCount.times(6), requestTo(FORECAST_URL)).andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+
+        // When & Then
+        assertThatThrownBy(() -> restTemplate.getForObject(FORECAST_URL, String.class))
+            .isInstanceOf(HttpServerErrorException.BadGateway.class);
+        assertThat(interceptor.circuitStates()).containsEntry("nws-forecasts", CircuitBreaker.State.CLOSED);
+        assertThatThrownBy(() -> restTemplate.getForObject(FORECAST_URL, String.class))
+            .isInstanceOf(HttpServerErrorException.BadGateway.class);
+        assertThatThrownBy(() -> restTemplate.getForObject(FORECAST_URL, String.class))
+            .isInstanceOf(WeatherServerException.class)
+            .extracting("errorCode")
+            .isEqualTo(UpstreamGuardInterceptor.CIRCUIT_OPEN);
+        server.verify();
+        assertThat(interceptor.circuitStates())
+            .containsEntry("nws-forecasts", CircuitBreaker.State.OPEN)
+            .containsEntry("nws-points", CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get(UpstreamMetrics.TIMER)
+            .tags("upstream", "nws-forecasts", "outcome", "REJECTED")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should guard and time NWS zone lookups like the other upstreams")
+    void intercept_ZoneLookup_GuardedAndTimed() {
+        // Given
+        server.expect(requestTo(ZONE_URL)).andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        // When
+        restTemplate.getForObject(ZONE_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(interceptor.circuitStates()).containsKey("nws-zones");
+        assertThat(meterRegistry.get(UpstreamMetrics.TIMER)
+            .tags("upstream", "nws-zones", "outcome", "SUCCESS")
+            .timer()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry a POST")
+    void intercept_PostServerError_NotRetried() {
+        // Given
+        server.expect(ExpectedCount.once(), requestTo(FORECAST_URL))
+            .andExpect(method(HttpMethod.POST))
+            .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // When & Then
+        assertThatThrownBy(() -> restTemplate.postForObject(FORECAST_URL, "{}", String.class))
+            .isInstanceOf(HttpServerErrorException.class);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Should neither retry nor count client errors against the circuit")
+    void intercept_NotFound_KeepsCircuitClosed() {
+        // Given
+        server.expect(ExpectedCount.times(3), requestTo(FORECAST_URL)).andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        // When
+        for (int call = 0; call < 3; call++) {
+            assertThatThrownBy(() -> restTemplate.getForObject(FORECAST_URL, String.class))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+        }
+
+        // Then
+        server.verify();
+        assertThat(interceptor.circuitStates()).containsEntry("nws-forecasts", CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should refuse a call when the upstream's bulkhead is full")
+    void intercept_BulkheadFull_FailsWithBulkheadFull() {
+        // Given
+        properties.getPoints().setMaxConcurrentCalls(1);
+        properties.getPoints().setMaxWait(Duration.ZERO);
+        bind();
+        AtomicReference<Throwable> nested = new AtomicReference<>();
+        server.expect(ExpectedCount.once(), requestTo(POINTS_URL)).andRespond(request -> {
+            // A second call while the first still holds the only slot
+            try {
+                restTemplate.getForObject(POINTS_URL, String.class);
+            } catch (RuntimeException e) {
+                nested.set(e);
+            }
+            return withSuccess("{}", MediaType.APPLICATION_JSON).createResponse(request);
+        });
+
+        // When
+        restTemplate.getForObject(POINTS_URL, String.class);
+
+        // Then
+        server.verify();
+        assertThat(nested.get())
+            .isInstanceOf(WeatherServerException.class)
+            .extracting("errorCode")
+            .isEqualTo(UpstreamGuardInterceptor.BULKHEAD_FULL);
+    }
+}
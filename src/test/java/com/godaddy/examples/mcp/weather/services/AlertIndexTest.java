@@ -0,0 +1,122 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.services.AlertIndex.Area;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.Geometry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AlertIndex Tests")
+class AlertIndexTest {
+
+    private static final String SQUARE = "[[-88,41],[-87,41],[-87,42],[-88,42],[-88,41]]";
+    private static final String HOLE = "[[-87.6,41.4],[-87.4,41.4],[-87.4,41.6],[-87.6,41.6],[-87.6,41.4]]";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should find alerts whose polygon contains the point and skip those that do not")
+    void alertsAt_PointInsideOnePolygon_ReturnsThatAlert() throws Exception {
+        // Given
+        WeatherAlert storm = alert("Winter Storm Warning");
+        WeatherAlert flood = alert("Flood Watch");
+        AlertIndex index = new AlertIndex(List.of(storm, flood), List.of(
+            Area.of(geometry("Polygon", "[" + SQUARE + "]")),
+            Area.of(geometry("Polygon", "[[[-100,30],[-99,30],[-99,31],[-100,31],[-100,30]]]"))));
+
+        // When
+        List<WeatherAlert> inside = index.alertsAt(41.8781, -87.6298);
+        List<WeatherAlert> outside = index.alertsAt(40.5, -87.5);
+
+        // Then
+        assertThat(inside).containsExactly(storm);
+        assertThat(outside).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should treat a polygon's inner ring as a hole")
+    void alertsAt_PointInHole_ReturnsNothing() throws Exception {
+        // Given
+        AlertIndex index = new AlertIndex(List.of(alert("Winter Storm Warning")),
+            List.of(Area.of(geometry("Polygon", "[" + SQUARE + "," + HOLE + "]"))));
+
+        // When & Then
+        assertThat(index.alertsAt(41.5, -87.5)).isEmpty();
+        assertThat(index.alertsAt(41.2, -87.8)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should return an alert once even when several of its areas contain the point")
+    void alertsAt_OverlappingAreasOfOneAlert_ReturnsAlertOnce() throws Exception {
+        // Given
+        WeatherAlert storm = alert("Winter Storm Warning");
+        WeatherAlert wind = alert("Wind Advisory");
+        List<Area> stormAreas = Area.of(geometry("MultiPolygon", "[[" + SQUARE + "],[" + SQUARE + "]]"));
+        AlertIndex index = new AlertIndex(List.of(wind, storm),
+            List.of(Area.of(geometry("Polygon", "[" + SQUARE + "]")), stormAreas));
+
+        // When
+        List<WeatherAlert> alerts = index.alertsAt(41.8781, -87.6298);
+
+        // Then
+        assertThat(stormAreas).hasSize(2);
+        assertThat(alerts).containsExactly(wind, storm);
+    }
+
+    @Test
+    @DisplayName("Should find polygons spanning several grid cells from any of them")
+    void alertsAt_PolygonAcrossCells_FoundFromEachCell() throws Exception {
+        // Given
+        AlertIndex index = new AlertIndex(List.of(alert("Heat Advisory")),
+            List.of(Area.of(geometry("Polygon", "[[[-90.5,40.5],[-86.5,40.5],[-86.5,43.5],[-90.5,43.5],[-90.5,40.5]]]"))));
+
+        // When & Then
+        assertThat(index.alertsAt(40.6, -90.4)).hasSize(1);
+        assertThat(index.alertsAt(43.4, -86.6)).hasSize(1);
+        assertThat(index.alertsAt(44.0, -88.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match zone-only alerts by the point's zones whatever base URL lists them")
+    void alertsAt_ZoneMatchedAlert_MatchesByZoneKey() throws Exception {
+        // Given
+        WeatherAlert storm = alert("Winter Storm Warning");
+        WeatherAlert flood = alert("Flood Watch");
+        AlertIndex index = new AlertIndex(List.of(flood, storm),
+            List.of(Area.of(geometry("Polygon", "[" + SQUARE + "]")), List.of()),
+            Map.of(1, Set.of(AlertIndex.zoneKey("https://api.weather.gov/zones/forecast/ILZ014"))));
+
+        // When
+        List<WeatherAlert> inZone = index.alertsAt(41.8781, -87.6298, List.of("http://localhost:8089/zones/forecast/ILZ014"));
+        List<WeatherAlert> fireZone = index.alertsAt(41.8781, -87.6298, List.of("https://api.weather.gov/zones/fire/ILZ014"));
+
+        // Then
+        assertThat(index.matchesByZone()).isTrue();
+        assertThat(inZone).containsExactly(flood, storm);
+        assertThat(fireZone).containsExactly(flood);
+    }
+
+    @Test
+    @DisplayName("Should index nothing for geometries other than polygons")
+    void areaOf_PointOrMissingGeometry_ReturnsNoAreas() throws Exception {
+        // When & Then
+        assertThat(Area.of(null)).isEmpty();
+        assertThat(Area.of(geometry("Point", "[-87.6,41.8]"))).isEmpty();
+        assertThat(AlertIndex.EMPTY.alertsAt(41.8781, -87.6298)).isEmpty();
+    }
+
+    private Geometry geometry(String type, String coordinates) throws Exception {
+        return new Geometry(type, objectMapper.readTree(coordinates));
+    }
+
+    private static WeatherAlert alert(String event) {
+        return WeatherResults.alert(new UpstreamPayloads.AlertProperties(event, event + " issued", "",
+            "Moderate", "Expected", "", "2024-01-15T12:00:00Z", "2024-01-16T12:00:00Z", List.of()));
+    }
+}
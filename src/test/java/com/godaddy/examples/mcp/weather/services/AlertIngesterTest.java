@@ -0,0 +1,351 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.godaddy.examples.mcp.weather.config.WeatherAlertIndexProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertIngester Tests")
+class AlertIngesterTest {
+
+    private static final String FEED_URL = "https://api.weather.gov/alerts/active";
+    private static final String ZONE_URL = "https://api.weather.gov/zones/forecast/ILZ014";
+
+    private static final String FEED = """
+        {"features": [
+          {"geometry": {"type": "Polygon", "coordinates": [[[-100,30],[-99,30],[-99,31],[-100,31],[-100,30]]]},
+           "properties": {"event": "Flash Flood Warning", "severity": "Severe", "affectedZones": []}},
+          {"geometry": null,
+           "properties": {"event": "Winter Storm Warning", "severity": "Moderate",
+                          "affectedZones": ["https://api.weather.gov/zones/forecast/ILZ014"]}}
+        ]}
+        """;
+    private static final String ZONE = """
+        {"geometry": {"type": "MultiPolygon", "coordinates": [[[[-88,41],[-87,41],[-87,42],[-88,42],[-88,41]]]]}}
+        """;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private final WeatherAlertIndexProperties properties = new WeatherAlertIndexProperties();
+    private final TestClock clock = new TestClock(Instant.parse("2024-01-15T12:00:00Z"));
+
+    private MockRestServiceServer server;
+    private AlertIngester ingester;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        ingester = new AlertIngester(restTemplate, new WeatherUpstreamProperties(), properties,
+            new WeatherCacheProperties(), Runnable::run, scheduler, clock);
+    }
+
+    @Test
+    @DisplayName("Should answer lookups from alert polygons and from the polygons of affected zones")
+    void alertsAt_AfterRefresh_FindsPolygonAndZoneAlerts() {
+        // Given
+        respond(FEED_URL, FEED);
+        respond(ZONE_URL, ZONE);
+
+        // When
+        ingester.refresh();
+
+        // Then
+        assertThat(ingester.alertsAt(41.8781, -87.6298)).hasValueSatisfying(alerts ->
+            assertThat(alerts).extracting(WeatherAlert::event).containsExactly("Winter Storm Warning"));
+        assertThat(ingester.alertsAt(30.5, -99.5)).hasValueSatisfying(alerts ->
+            assertThat(alerts).extracting(WeatherAlert::event).containsExactly("Flash Flood Warning"));
+        assertThat(ingester.alertsAt(35.0, -95.0)).hasValue(List.of());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Should not answer before the first ingest")
+    void alertsAt_BeforeRefresh_ReturnsEmpty() {
+        // When
+        Optional<List<WeatherAlert>> alerts = ingester.alertsAt(41.8781, -87.6298);
+
+        // Then
+        assertThat(alerts).isEmpty();
+        assertThat(ingester.health().getStatus()).isEqualTo(Status.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("Should match an alert by zone when one of its zones could not be fetched")
+    void alertsAt_ZoneFetchFailed_MatchesThatAlertByZone() {
+        // Given
+        respond(FEED_URL, FEED);
+        server.expect(requestTo(ZONE_URL)).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // When
+        ingester.refresh();
+
+        // Then
+        assertThat(ingester.alertsAt(30.5, -99.5, () -> List.of("https://api.weather.gov/zones/forecast/TXZ001")))
+            .hasValueSatisfying(alerts ->
+                assertThat(alerts).extracting(WeatherAlert::event).containsExactly("Flash Flood Warning"));
+        assertThat(ingester.alertsAt(41.8781, -87.6298,
+                () -> List.of(ZONE_URL, "https://api.weather.gov/zones/county/ILC031")))
+            .hasValueSatisfying(alerts ->
+                assertThat(alerts).extracting(WeatherAlert::event).containsExactly("Winter Storm Warning"));
+        assertThat(ingester.alertsAt(41.8781, -87.6298)).isEmpty();
+        Health health = ingester.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("matchedByZone", 1);
+    }
+
+    @Test
+    @DisplayName("Should leave the lookup to NWS when the point's zones cannot be resolved")
+    void alertsAt_PointZonesFail_ReturnsEmpty() {
+        // Given
+        respond(FEED_URL, FEED);
+        server.expect(requestTo(ZONE_URL)).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+        ingester.refresh();
+
+        // When
+        Optional<List<WeatherAlert>> alerts = ingester.alertsAt(41.8781, -87.6298, () -> {
+            throw new IllegalStateException("points lookup failed");
+        });
+
+        // Then
+        assertThat(alerts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count alerts with neither a polygon nor zones and still answer")
+    void refresh_AlertWithoutPolygonOrZones_CountedAsUnlocated() {
+        // Given
+        respond(FEED_URL, """
+            {"features": [
+              {"geometry": null, "properties": {"event": "Special Weather Statement", "affectedZones": []}}
+            ]}
+            """);
+
+        // When
+        ingester.refresh();
+
+        // Then
+        assertThat(ingester.alertsAt(41.8781, -87.6298)).hasValue(List.of());
+        assertThat(ingester.health().getDetails())
+            .containsEntry("alerts", 1)
+            .containsEntry("unlocated", 1);
+    }
+
+    @Test
+    @DisplayName("Should count a zone NWS no longer knows as covering nothing")
+    void alertsAt_UnknownZone_IndexStaysComplete() {
+        // Given
+        respond(FEED_URL, FEED);
+        server.expect(requestTo(ZONE_URL)).andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        // When
+        ingester.refresh();
+
+        // Then
+        assertThat(ingester.alertsAt(41.8781, -87.6298)).hasValue(List.of());
+        assertThat(ingester.health().getDetails()).containsEntry("matchedByZone", 0);
+    }
+
+    @Test
+    @DisplayName("Should match by zone while a zone has no polygon, and fetch it again after the negative TTL")
+    void alertsAt_ZoneWithoutGeometry_MatchesByZoneUntilRefetched() {
+        // Given
+        respond(FEED_URL, FEED);
+        respond(ZONE_URL, "{\"geometry\": null}");
+        respond(FEED_URL, FEED);
+        respond(ZONE_URL, ZONE);
+        ingester.refresh();
+        Optional<List<WeatherAlert>> withoutZones = ingester.alertsAt(41.8781, -87.6298);
+        Optional<List<WeatherAlert>> byZone = ingester.alertsAt(41.8781, -87.6298, () -> List.of(ZONE_URL));
+
+        // When
+        clock.advance(new WeatherCacheProperties().getZones().getNegativeTtl().plusSeconds(1));
+        ingester.refresh();
+
+        // Then
+        assertThat(withoutZones).isEmpty();
+        assertThat(byZone).hasValueSatisfying(alerts ->
+            assertThat(alerts).extracting(WeatherAlert::event).containsExactly("Winter Storm Warning"));
+        server.verify();
+        assertThat(ingester.alertsAt(41.8781, -87.6298)).hasValueSatisfying(alerts ->
+            assertThat(alerts).extracting(WeatherAlert::event).containsExactly("Winter Storm Warning"));
+        assertThat(ingester.health().getDetails()).containsEntry("matchedByZone", 0);
+    }
+
+    @Test
+    @DisplayName("Should fetch each zone once across ingests")
+    void refresh_Twice_FetchesZoneOnce() {
+        // Given
+        server.expect(ExpectedCount.twice(), requestTo(FEED_URL))
+            .andRespond(withSuccess(FEED, MediaType.APPLICATION_JSON));
+        respond(ZONE_URL, ZONE);
+
+        // When
+        ingester.refresh();
+        ingester.refresh();
+
+        // Then
+        server.verify();
+        assertThat(ingester.alertsAt(41.8781, -87.6298)).hasValueSatisfying(alerts -> assertThat(alerts).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should keep the index and fetch no zones when the feed is not modified")
+    void refresh_FeedNotModified_KeepsIndex() {
+        // Given
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"feed-1\"");
+        server.expect(requestTo(FEED_URL))
+            .andRespond(withSuccess(FEED, MediaType.APPLICATION_JSON).headers(validators));
+        respond(ZONE_URL, ZONE);
+        server.expect(requestTo(FEED_URL))
+            .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"feed-1\""))
+            .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        ingester.refresh();
+
+        // When
+        clock.advance(properties.getMaxAge().minusSeconds(1));
+        ingester.refresh();
+        clock.advance(Duration.ofSeconds(2));
+
+        // Then
+        server.verify();
+        assertThat(ingester.alertsAt(41.8781, -87.6298)).hasValueSatisfying(alerts ->
+            assertThat(alerts).extracting(WeatherAlert::event).containsExactly("Winter Storm Warning"));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index when the feed changes")
+    void refresh_FeedChanged_RebuildsIndex() {
+        // Given
+        respond(FEED_URL, FEED);
+        respond(ZONE_URL, ZONE);
+        respond(FEED_URL, """
+            {"features": [
+              {"geometry": {"type": "Polygon", "coordinates": [[[-100,30],[-99,30],[-99,31],[-100,31],[-100,30]]]},
+               "properties": {"event": "Flash Flood Warning", "severity": "Severe", "affectedZones": []}}
+            ]}
+            """);
+        ingester.refresh();
+
+        // When
+        ingester.refresh();
+
+        // Then
+        assertThat(ingester.alertsAt(41.8781, -87.6298)).hasValue(List.of());
+        assertThat(ingester.health().getDetails()).containsEntry("alerts", 1);
+    }
+
+    @Test
+    @DisplayName("Should keep the previous index when the feed fails, and stop answering once it is too old")
+    void alertsAt_FeedFailingPastMaxAge_ReturnsEmpty() {
+        // Given
+        respond(FEED_URL, FEED);
+        respond(ZONE_URL, ZONE);
+        server.expect(requestTo(FEED_URL)).andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        ingester.refresh();
+
+        // When
+        clock.advance(properties.getMaxAge().minusSeconds(1));
+        ingester.refresh();
+        Optional<List<WeatherAlert>> beforeMaxAge = ingester.alertsAt(41.8781, -87.6298);
+        clock.advance(Duration.ofSeconds(2));
+        Optional<List<WeatherAlert>> afterMaxAge = ingester.alertsAt(41.8781, -87.6298);
+
+        // Then
+        assertThat(beforeMaxAge).hasValueSatisfying(alerts -> assertThat(alerts).hasSize(1));
+        assertThat(afterMaxAge).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should schedule ingests at the refresh interval")
+    void start_Enabled_SchedulesRefresh() {
+        // When
+        ingester.start();
+
+        // Then
+        verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(0L),
+            eq(properties.getRefreshInterval().toMillis()), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should not schedule ingests when disabled")
+    void start_Disabled_SchedulesNothing() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        ingester.start();
+
+        // Then
+        verify(scheduler, never()).scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any());
+    }
+
+    private void respond(String url, String body) {
+        server.expect(requestTo(url)).andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+    }
+
+    private static final class TestClock extends Clock {
+
+        private Instant now;
+
+        TestClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ForecastFields Tests")
+class ForecastFieldsTest {
+
+    private static final WeatherPeriod PERIOD =
+        new WeatherPeriod("Tonight", "32°F", "10 mph", "NW", "Clear", "Clear skies", false);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should return the forecast unchanged when no fields are given")
+    void parse_NullOrBlank_SelectsAll() {
+        // When
+        ForecastFields selection = ForecastFields.parse(" ");
+
+        // Then
+        assertThat(selection.isAll()).isTrue();
+        assertThat(selection.key()).isEmpty();
+        assertThat(ForecastFields.parse(null).select(List.of(PERIOD))).isEqualTo(List.of(PERIOD));
+    }
+
+    @Test
+    @DisplayName("Should keep only name, temperature, short forecast and day/night for compact")
+    void parse_Compact_ProjectsCompactFields() throws Exception {
+        // When
+        Map<String, Object> projected = written(ForecastFields.parse("COMPACT").select(List.of(PERIOD))).get(0);
+
+        // Then
+        assertThat(projected).containsExactly(
+            Map.entry("name", "Tonight"),
+            Map.entry("temperature", "32°F"),
+            Map.entry("shortForecast", "Clear"),
+            Map.entry("isDaytime", false));
+    }
+
+    @Test
+    @DisplayName("Should keep the stale marker on projected periods")
+    void select_StalePeriod_AddsStaleMarker() throws Exception {
+        // When
+        Map<String, Object> projected =
+            written(ForecastFields.parse("name").select(List.of(PERIOD.withDataAge(600)))).get(0);
+
+        // Then
+        assertThat(projected).containsExactly(
+            Map.entry("name", "Tonight"),
+            Map.entry("stale", true),
+            Map.entry("dataAgeSeconds", 600));
+    }
+
+    @Test
+    @DisplayName("Should keep selected periods typed and leave whole periods to other mappers")
+    void select_FieldList_KeepsWeatherPeriod() throws Exception {
+        // When
+        List<?> selected = ForecastFields.parse("name").select(List.of(PERIOD));
+
+        // Then
+        assertThat(selected).singleElement()
+            .isInstanceOfSatisfying(ForecastFields.Selected.class, period -> assertThat(period.period()).isSameAs(PERIOD));
+        assertThat(objectMapper.writeValueAsString(PERIOD)).contains("\"detailedForecast\":\"Clear skies\"");
+    }
+
+    @Test
+    @DisplayName("Should canonicalize an explicit field list to declaration order")
+    void parse_FieldList_UsesDeclarationOrder() {
+        // When
+        ForecastFields selection = ForecastFields.parse("windSpeed, name,windSpeed");
+
+        // Then
+        assertThat(selection.key()).isEqualTo("name,windSpeed");
+        assertThat(selection.key()).isEqualTo(ForecastFields.parse("name,windSpeed").key());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field")
+    void parse_UnknownField_ThrowsInvalidFields() {
+        // When & Then
+        assertThatThrownBy(() -> ForecastFields.parse("name,humidity"))
+            .isInstanceOf(WeatherServerException.class)
+            .hasMessageContaining("humidity")
+            .extracting("errorCode")
+            .isEqualTo("INVALID_FIELDS");
+    }
+
+    @Test
+    @DisplayName("Should add the city name to projected city periods")
+    void selectForCity_Compact_KeepsCityName() throws Exception {
+        // When
+        List<?> selected = ForecastFields.parse("name").selectForCity(List.of(new CityForecastPeriod(PERIOD, "Chicago")));
+
+        // Then
+        assertThat(written(selected)).containsExactly(Map.of("name", "Tonight", "cityName", "Chicago"));
+    }
+
+    private List<Map<String, Object>> written(List<?> selected) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(selected), new TypeReference<>() {
+        });
+    }
+}
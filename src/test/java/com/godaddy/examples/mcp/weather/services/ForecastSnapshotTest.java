@@ -0,0 +1,48 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastPeriod;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastProperties;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ForecastSnapshot Tests")
+class ForecastSnapshotTest {
+
+    private final ForecastSnapshot snapshot = ForecastSnapshot.fromDocument(new ForecastResponse(new ForecastProperties(
+        List.of(new ForecastPeriod("Tonight", 32, "F", "10 mph", "NW", "Clear", "Clear skies", false)))));
+
+    @Test
+    @DisplayName("Should reuse the stale copy while the reported age stays in the same minute")
+    void servedStale_SameMinute_ReturnsSameCopy() {
+        // When
+        ForecastSnapshot first = snapshot.servedStale(125);
+        ForecastSnapshot second = snapshot.servedStale(179);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.staleAgeSeconds()).isEqualTo(120L);
+        assertThat(first.version()).isEqualTo(snapshot.version());
+        assertThat(first.forecast()).singleElement().satisfies(period -> {
+            assertThat(period.stale()).isTrue();
+            assertThat(period.dataAgeSeconds()).isEqualTo(120L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should make a new stale copy once the reported age moves to the next minute")
+    void servedStale_NextMinute_ReturnsNewCopy() {
+        // When
+        ForecastSnapshot first = snapshot.servedStale(125);
+        ForecastSnapshot later = snapshot.servedStale(180);
+
+        // Then
+        assertThat(later).isNotSameAs(first);
+        assertThat(later.staleAgeSeconds()).isEqualTo(180L);
+        assertThat(snapshot.staleAgeSeconds()).isNull();
+    }
+}
@@ -0,0 +1,232 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.config.WeatherBatchProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
+import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReactiveWeatherService Tests")
+class ReactiveWeatherServiceTest {
+
+    private static final String POINTS_URL = "https://api.weather.gov/points/41.8781,-87.6298";
+    private static final String FORECAST_URL = "https://api.weather.gov/gridpoints/LOT/31,76/forecast";
+    private static final String ALERTS_URL = "https://api.weather.gov/alerts/active?point=41.8781,-87.6298";
+    private static final String GEOCODING_URL =
+        "https://geocoding-api.open-meteo.com/v1/search?name=Chicago&count=1&language=en&format=json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    private ReactiveWeatherService reactiveWeatherService;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                String url = request.url().toString();
+                requests.computeIfAbsent(url, key -> new AtomicInteger()).incrementAndGet();
+                String body = bodies.get(url);
+                if (body == null) {
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+                }
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+            })
+            .build();
+        reactiveWeatherService = new ReactiveWeatherService(webClient, new WeatherCacheProperties(), new WeatherBatchProperties(),
+            new WeatherUpstreamProperties());
+
+        respond(POINTS_URL, Map.of(
+            "properties", Map.of(
+                "forecast", FORECAST_URL,
+                "gridId", "LOT",
+                "gridX", 31,
+                "gridY", 76,
+                "timeZone", "America/Chicago"
+            )
+        ));
+        respond(FORECAST_URL, Map.of(
+            "properties", Map.of(
+                "periods", List.of(
+                    Map.of(
+                        "name", "Tonight",
+                        "temperature", 32,
+                        "temperatureUnit", "F",
+                        "windSpeed", "5 mph",
+                        "windDirection", "NW",
+                        "shortForecast", "Partly Cloudy",
+                        "detailedForecast", "Partly cloudy, with a low around 32...",
+                        "isDaytime", false
+                    )
+                )
+            )
+        ));
+        respond(GEOCODING_URL, Map.of(
+            "results", List.of(
+                Map.of(
+                    "name", "Chicago",
+                    "latitude", 41.8781,
+                    "longitude", -87.6298,
+                    "country", "United States",
+                    "admin1", "Illinois",
+                    "timezone", "America/Chicago"
+                )
+            )
+        ));
+    }
+
+    @Test
+    @DisplayName("Should return the same current weather fields as the blocking service")
+    void getCurrentWeather_ValidCoordinates_ReturnsCurrentConditions() {
+        // When
+        CurrentWeather result = reactiveWeatherService.getCurrentWeather(41.8781, -87.6298).block();
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.location()).isEqualTo("41.8781, -87.6298");
+        assertThat(result.name()).isEqualTo("Tonight");
+        assertThat(result.temperature()).isEqualTo("32°F");
+        assertThat(result.windSpeed()).isEqualTo("5 mph");
+        assertThat(result.windDirection()).isEqualTo("NW");
+        assertThat(result.shortForecast()).isEqualTo("Partly Cloudy");
+    }
+
+    @Test
+    @DisplayName("Should resolve the grid point once for repeated lookups")
+    void getLocationInfo_RepeatedCoordinates_CachesGridPoint() {
+        // When
+        reactiveWeatherService.getLocationInfo(41.8781, -87.6298).block();
+        LocationInfo result = reactiveWeatherService.getLocationInfo(41.8781, -87.6298).block();
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.gridId()).isEqualTo("LOT");
+        assertThat(result.timeZone()).isEqualTo("America/Chicago");
+        assertThat(requests.get(POINTS_URL).get()).isEqualTo(1);
+        assertThat(reactiveWeatherService.getCacheStats().get("gridPoints").hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tag every forecast period with the city name")
+    void getWeatherForecastByCity_KnownCity_AddsCityName() {
+        // When
+        List<CityForecastPeriod> result = reactiveWeatherService.getWeatherForecastByCity("Chicago").block();
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).cityName()).isEqualTo("Chicago");
+        assertThat(result.get(0).period().isDaytime()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should bundle forecast, alerts and location for a city")
+    void getCityWeatherBundle_KnownCity_ReturnsEverything() {
+        // Given
+        respond(ALERTS_URL, Map.of("features", List.of()));
+
+        // When
+        CityWeatherBundle result = reactiveWeatherService.getCityWeatherBundle("Chicago").block();
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.cityName()).isEqualTo("Chicago");
+        assertThat(result.current()).isNotNull();
+        assertThat(result.forecast()).hasSize(1);
+        assertThat(result.alerts()).isEmpty();
+        assertThat(result.location()).isNotNull();
+        assertThat(requests.get(POINTS_URL).get()).isEqualTo(1);
+        assertThat(requests.get(ALERTS_URL).get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return an empty alert list when the upstream fails")
+    void getWeatherAlerts_UpstreamError_ReturnsEmptyList() {
+        // Given
+        bodies.remove(ALERTS_URL);
+
+        // When
+        List<WeatherAlert> result = reactiveWeatherService.getWeatherAlerts(41.8781, -87.6298).block();
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fail with COORDINATES_ERROR for an unknown city")
+    void getCityCoordinates_UnknownCity_ThrowsWeatherServerException() {
+        // Given
+        respond("https://geocoding-api.open-meteo.com/v1/search?name=Atlantis&count=1&language=en&format=json",
+            Map.of("results", List.of()));
+
+        // When & Then
+        assertThatThrownBy(() -> reactiveWeatherService.getCityCoordinates("Atlantis").block())
+            .isInstanceOf(WeatherServerException.class)
+            .hasMessageContaining("City not found: Atlantis")
+            .satisfies(ex -> {
+                WeatherServerException wse = (WeatherServerException) ex;
+                assertThat(wse.getErrorCode()).isEqualTo("COORDINATES_ERROR");
+                assertThat(wse.getOperation()).isEqualTo("getCityCoordinates");
+            });
+    }
+
+    @Test
+    @DisplayName("Should fetch a shared grid forecast once per batch and keep failures per location")
+    void getCurrentWeatherBatch_SharedGrid_FetchesForecastOnce() {
+        // Given
+        List<BatchLocation> locations = List.of(
+            BatchLocation.ofCity("Chicago"),
+            BatchLocation.ofCoordinates(41.8781, -87.6298),
+            BatchLocation.ofCity("Nowhere"));
+
+        // When
+        List<BatchResult<CurrentWeather>> results = reactiveWeatherService.getCurrentWeatherBatch(locations).block();
+
+        // Then
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).result().temperature()).isEqualTo("32°F");
+        assertThat(results.get(1).result().location()).isEqualTo("41.8781, -87.6298");
+        assertThat(results.get(2).result()).isNull();
+        assertThat(results.get(2).error().errorCode()).isEqualTo("COORDINATES_ERROR");
+        assertThat(requests.get(FORECAST_URL).get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch")
+    void getWeatherForecastBatch_NoLocations_ThrowsInvalidBatch() {
+        // When & Then
+        assertThatThrownBy(() -> reactiveWeatherService.getWeatherForecastBatch(List.of(), null, null).block())
+            .isInstanceOf(WeatherServerException.class)
+            .extracting("errorCode")
+            .isEqualTo("INVALID_BATCH");
+    }
+
+    private void respond(String url, Object body) {
+        try {
+            bodies.put(url, objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
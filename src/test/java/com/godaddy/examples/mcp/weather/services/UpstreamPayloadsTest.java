@@ -0,0 +1,101 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.AlertsResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.ForecastResponse;
+import com.godaddy.examples.mcp.weather.services.UpstreamPayloads.PointsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UpstreamPayloads Tests")
+class UpstreamPayloadsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should decode an NWS forecast, skipping fields the tools do not return")
+    void readForecast_WithUnknownFields_ProjectsSamePeriods() throws Exception {
+        // Given
+        String body = """
+            {"@context":["https://geojson.org/geojson-ld/geojson-context.jsonld",{"@version":"1.1"}],
+             "type":"Feature",
+             "geometry":{"type":"Polygon","coordinates":[[[-87.6,41.8],[-87.6,41.9],[-87.7,41.9]]]},
+             "properties":{"units":"us","generatedAt":"2024-01-01T00:00:00+00:00",
+              "elevation":{"unitCode":"wmoUnit:m","value":179.8},
+              "periods":[{"number":1,"name":"Tonight","startTime":"2024-01-01T18:00:00-06:00",
+               "isDaytime":false,"temperature":32,"temperatureUnit":"F","temperatureTrend":null,
+               "probabilityOfPrecipitation":{"unitCode":"wmoUnit:percent","value":20},
+               "windSpeed":"10 mph","windDirection":"NW","icon":"https://api.weather.gov/icons/land/night/few",
+               "shortForecast":"Clear","detailedForecast":"Clear skies"}]}}
+            """;
+
+        // When
+        ForecastSnapshot snapshot = ForecastSnapshot.fromDocument(objectMapper.readValue(body, ForecastResponse.class));
+
+        // Then
+        assertThat(snapshot.forecast()).containsExactly(
+            new WeatherPeriod("Tonight", "32°F", "10 mph", "NW", "Clear", "Clear skies", false));
+    }
+
+    @Test
+    @DisplayName("Should default city and state when a point has no relative location")
+    void readPoint_WithoutRelativeLocation_DefaultsToUnknown() throws Exception {
+        // Given
+        String body = """
+            {"id":"https://api.weather.gov/points/41.8781,-87.6298","properties":{"cwa":"LOT",
+             "forecast":"https://api.weather.gov/gridpoints/LOT/76,73/forecast",
+             "gridId":"LOT","gridX":76,"gridY":73,"timeZone":"America/Chicago"}}
+            """;
+
+        // When
+        GridPoint gridPoint = WeatherService.projectGridPoint(objectMapper.readValue(body, PointsResponse.class));
+
+        // Then
+        assertThat(gridPoint).isEqualTo(new GridPoint("https://api.weather.gov/gridpoints/LOT/76,73/forecast",
+            "LOT", 76, 73, "America/Chicago", "Unknown", "Unknown", List.of()));
+    }
+
+    @Test
+    @DisplayName("Should keep the zones a point lies in")
+    void readPoint_WithZones_KeepsZoneUrls() throws Exception {
+        // Given
+        String body = """
+            {"properties":{"forecast":"https://api.weather.gov/gridpoints/LOT/76,73/forecast",
+             "gridId":"LOT","gridX":76,"gridY":73,"timeZone":"America/Chicago",
+             "forecastZone":"https://api.weather.gov/zones/forecast/ILZ014",
+             "county":"https://api.weather.gov/zones/county/ILC031"}}
+            """;
+
+        // When
+        GridPoint gridPoint = WeatherService.projectGridPoint(objectMapper.readValue(body, PointsResponse.class));
+
+        // Then
+        assertThat(gridPoint.zones()).containsExactly("https://api.weather.gov/zones/forecast/ILZ014",
+            "https://api.weather.gov/zones/county/ILC031");
+    }
+
+    @Test
+    @DisplayName("Should project alert properties, mapping areaDesc to areas")
+    void readAlerts_WithFeatures_ProjectsAlertProperties() throws Exception {
+        // Given
+        String body = """
+            {"type":"FeatureCollection","features":[{"id":"urn:oid:1","geometry":null,
+             "properties":{"event":"Winter Storm Warning","headline":"Heavy snow","description":"Snow",
+              "severity":"Severe","urgency":"Expected","areaDesc":"Cook County",
+              "geocode":{"UGC":["ILZ014"]},"parameters":{"NWSheadline":["HEAVY SNOW"]},
+              "effective":"2024-01-01T00:00:00-06:00","expires":"2024-01-02T00:00:00-06:00"}}],
+             "title":"Current watches, warnings, and advisories"}
+            """;
+
+        // When
+        List<WeatherAlert> alerts = WeatherService.projectAlerts(objectMapper.readValue(body, AlertsResponse.class));
+
+        // Then
+        assertThat(alerts).containsExactly(new WeatherAlert("Winter Storm Warning", "Heavy snow", "Snow", "Severe",
+            "Expected", "Cook County", "2024-01-01T00:00:00-06:00", "2024-01-02T00:00:00-06:00"));
+    }
+}
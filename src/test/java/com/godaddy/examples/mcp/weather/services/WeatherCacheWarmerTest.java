@@ -0,0 +1,193 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.godaddy.examples.mcp.weather.config.WeatherBatchProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherWarmupProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeatherCacheWarmer Tests")
+class WeatherCacheWarmerTest {
+
+    @Mock
+    private WeatherService weatherService;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private final WeatherWarmupProperties warmupProperties = new WeatherWarmupProperties();
+    private final WeatherBatchProperties batchProperties = new WeatherBatchProperties();
+
+    private WeatherCacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        warmupProperties.setCities(List.of("Chicago", "Boston", "Denver"));
+        batchProperties.setMaxLocations(2);
+        warmer = new WeatherCacheWarmer(weatherService, warmupProperties, batchProperties, scheduler);
+    }
+
+    @Test
+    @DisplayName("Should stay out of service until the first warm-up finishes")
+    void health_BeforeAndAfterWarmUp_ReportsReadiness() {
+        // Given
+        when(weatherService.getCurrentWeatherBatch(anyList())).thenAnswer(invocation -> loaded(invocation.getArgument(0)));
+
+        // When
+        Status before = warmer.health().getStatus();
+        warmer.warmUp();
+
+        // Then
+        assertThat(before).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(warmer.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("Should warm cities in batches no larger than the batch limit and count failures")
+    void warmUp_MoreCitiesThanBatchLimit_SplitsBatches() {
+        // Given
+        List<BatchLocation> first = List.of(BatchLocation.ofCity("Chicago"), BatchLocation.ofCity("Boston"));
+        List<BatchLocation> second = List.of(BatchLocation.ofCity("Denver"));
+        when(weatherService.getCurrentWeatherBatch(first)).thenReturn(loaded(first));
+        when(weatherService.getCurrentWeatherBatch(second)).thenReturn(List.of(failed(second.get(0))));
+
+        // When
+        warmer.warmUp();
+
+        // Then
+        InOrder order = inOrder(weatherService);
+        order.verify(weatherService).getCurrentWeatherBatch(first);
+        order.verify(weatherService).getCurrentWeatherBatch(second);
+        assertThat(warmer.health().getDetails()).containsEntry("failedCities", 1);
+    }
+
+    @Test
+    @DisplayName("Should stay out of service when too many cities fail to warm")
+    void warmUp_MostCitiesFail_StaysOutOfService() {
+        // Given
+        when(weatherService.getCurrentWeatherBatch(anyList())).thenAnswer(invocation -> invocation.<List<BatchLocation>>getArgument(0)
+            .stream()
+            .map(WeatherCacheWarmerTest::failed)
+            .toList());
+
+        // When
+        warmer.warmUp();
+
+        // Then
+        assertThat(warmer.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(warmer.health().getDetails()).containsEntry("failedCities", 3);
+    }
+
+    @Test
+    @DisplayName("Should stay out of service when the warm-up stops early")
+    void warmUp_BatchThrows_StaysOutOfService() {
+        // Given
+        when(weatherService.getCurrentWeatherBatch(anyList())).thenThrow(new IllegalStateException("executor shut down"));
+
+        // When
+        warmer.warmUp();
+
+        // Then
+        assertThat(warmer.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    @DisplayName("Should become ready once the background refresh has loaded enough cities")
+    void refreshNext_LoadsCitiesAfterFailedWarmUp_BecomesReady() {
+        // Given
+        when(weatherService.getCurrentWeatherBatch(anyList())).thenThrow(new IllegalStateException("executor shut down"));
+        when(weatherService.getForecastValidity(any()))
+            .thenReturn(Optional.of(new ForecastValidity(1, null, Instant.now(), null)));
+        warmer.warmUp();
+
+        // When
+        warmer.refreshNext();
+        Status afterOne = warmer.health().getStatus();
+        warmer.refreshNext();
+
+        // Then
+        assertThat(afterOne).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(warmer.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmer.health().getDetails()).containsEntry("failedCities", 1);
+    }
+
+    @Test
+    @DisplayName("Should refresh one city per tick, cycling through the list")
+    void refreshNext_RepeatedTicks_CyclesThroughCities() {
+        // Given
+        when(weatherService.getForecastValidity(any())).thenReturn(Optional.empty());
+
+        // When
+        for (int tick = 0; tick < 4; tick++) {
+            warmer.refreshNext();
+        }
+
+        // Then
+        InOrder order = inOrder(weatherService);
+        order.verify(weatherService).getForecastValidity("Chicago");
+        order.verify(weatherService).getForecastValidity("Boston");
+        order.verify(weatherService).getForecastValidity("Denver");
+        order.verify(weatherService).getForecastValidity("Chicago");
+    }
+
+    @Test
+    @DisplayName("Should spread refreshes evenly over the refresh interval")
+    void start_Enabled_SchedulesSpacedRefresh() {
+        // Given
+        warmupProperties.setRefreshInterval(Duration.ofMinutes(3));
+
+        // When
+        warmer.start();
+
+        // Then
+        verify(scheduler).execute(any());
+        verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(60_000L), eq(60_000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should report ready without scheduling anything when disabled")
+    void start_Disabled_IsReadyImmediately() {
+        // Given
+        warmupProperties.setEnabled(false);
+
+        // When
+        warmer.start();
+
+        // Then
+        assertThat(warmer.health().getStatus()).isEqualTo(Status.UP);
+        verify(scheduler, never()).execute(any());
+    }
+
+    private static List<BatchResult<CurrentWeather>> loaded(List<BatchLocation> locations) {
+        return locations.stream()
+            .map(location -> new BatchResult<>(location,
+                new CurrentWeather("41.8781, -87.6298", "Tonight", "32°F", "5 mph", "NW", "Partly Cloudy", ""), null))
+            .toList();
+    }
+
+    private static BatchResult<CurrentWeather> failed(BatchLocation location) {
+        return new BatchResult<>(location, null, new BatchError("CITY_NOT_FOUND", "City not found: " + location.city()));
+    }
+}
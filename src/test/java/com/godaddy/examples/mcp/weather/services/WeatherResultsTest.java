@@ -0,0 +1,82 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeatherResults Tests")
+class WeatherResultsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final CurrentWeather currentWeather = new CurrentWeather("41.8781, -87.6298", "Tonight", "32°F",
+        "5 mph", "NW", "Partly Cloudy", "Partly cloudy, with a low around 32");
+
+    @Test
+    @DisplayName("Should serialize city weather as one flat object")
+    void cityWeather_Serialized_InlinesCurrentWeather() throws Exception {
+        // Given
+        CityWeather cityWeather = WeatherResults.currentConditionsForCity(currentWeather, "Chicago", 41.8781, -87.6298);
+
+        // When
+        Map<String, Object> json = objectMapper.readValue(objectMapper.writeValueAsString(cityWeather), Map.class);
+
+        // Then
+        assertThat(json).containsOnlyKeys("location", "name", "temperature", "windSpeed", "windDirection",
+            "shortForecast", "detailedForecast", "cityName", "coordinates");
+        assertThat(json.get("temperature")).isEqualTo("32°F");
+        assertThat(json.get("coordinates")).isEqualTo("41.8781, -87.6298");
+    }
+
+    @Test
+    @DisplayName("Should tag forecast periods with the city name without copying them")
+    void forecastForCity_Serialized_KeepsPeriodFieldsAndIsDaytime() throws Exception {
+        // Given
+        WeatherPeriod period = new WeatherPeriod("Tonight", "32°F", "5 mph", "NW", "Partly Cloudy", "Cloudy", false);
+
+        // When
+        List<CityForecastPeriod> forecast = WeatherResults.forecastForCity(List.of(period), "Chicago");
+        Map<String, Object> json = objectMapper.readValue(objectMapper.writeValueAsString(forecast.get(0)), Map.class);
+
+        // Then
+        assertThat(forecast.get(0).period()).isSameAs(period);
+        assertThat(json).containsOnlyKeys("name", "temperature", "windSpeed", "windDirection",
+            "shortForecast", "detailedForecast", "isDaytime", "cityName");
+        assertThat(json.get("isDaytime")).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("Should keep two periods per requested day and everything when days is null")
+    void firstDays_DaysGiven_TruncatesToTwoPeriodsPerDay() {
+        // Given
+        List<String> periods = List.of("Tonight", "Monday", "Monday Night", "Tuesday", "Tuesday Night");
+
+        // When & Then
+        assertThat(WeatherResults.firstDays(periods, 1)).containsExactly("Tonight", "Monday");
+        assertThat(WeatherResults.firstDays(periods, 2)).hasSize(4);
+        assertThat(WeatherResults.firstDays(periods, 7)).isEqualTo(periods);
+        assertThat(WeatherResults.firstDays(periods, null)).isSameAs(periods);
+    }
+
+    @Test
+    @DisplayName("Should serialize tagged alerts with the same keys as before")
+    void alertsForCity_Serialized_InlinesAlert() throws Exception {
+        // Given
+        WeatherAlert alert = new WeatherAlert("Winter Storm Warning", "Heavy snow", "Snow", "Severe",
+            "Expected", "Cook County", "2024-01-01T00:00:00-06:00", "2024-01-02T00:00:00-06:00");
+
+        // When
+        CityAlert cityAlert = WeatherResults.alertsForCity(List.of(alert), "Chicago").get(0);
+        Map<String, Object> json = objectMapper.readValue(objectMapper.writeValueAsString(cityAlert), Map.class);
+
+        // Then
+        assertThat(json).containsOnlyKeys("event", "headline", "description", "severity", "urgency",
+            "areas", "effective", "expires", "cityName");
+        assertThat(json.get("areas")).isEqualTo("Cook County");
+    }
+}
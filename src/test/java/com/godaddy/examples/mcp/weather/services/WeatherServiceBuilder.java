@@ -0,0 +1,60 @@
+package com.godaddy.examples.mcp.weather.services;
+
+import com.godaddy.examples.mcp.weather.config.WeatherBatchProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Builds a {@link WeatherService} for tests: default properties, no alert index and fan-out on the calling
+ * thread unless a test sets them.
+ */
+public final class WeatherServiceBuilder {
+
+    private final RestTemplate restTemplate;
+    private WeatherCacheProperties cacheProperties = new WeatherCacheProperties();
+    private WeatherBatchProperties batchProperties = new WeatherBatchProperties();
+    private WeatherUpstreamProperties upstreamProperties = new WeatherUpstreamProperties();
+    private AlertIngester alertIngester;
+    private Executor fanOutExecutor;
+
+    private WeatherServiceBuilder(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    public static WeatherServiceBuilder using(RestTemplate restTemplate) {
+        return new WeatherServiceBuilder(restTemplate);
+    }
+
+    public WeatherServiceBuilder cacheProperties(WeatherCacheProperties cacheProperties) {
+        this.cacheProperties = cacheProperties;
+        return this;
+    }
+
+    public WeatherServiceBuilder batchProperties(WeatherBatchProperties batchProperties) {
+        this.batchProperties = batchProperties;
+        return this;
+    }
+
+    public WeatherServiceBuilder upstreamProperties(WeatherUpstreamProperties upstreamProperties) {
+        this.upstreamProperties = upstreamProperties;
+        return this;
+    }
+
+    public WeatherServiceBuilder alertIngester(AlertIngester alertIngester) {
+        this.alertIngester = alertIngester;
+        return this;
+    }
+
+    public WeatherServiceBuilder fanOutExecutor(Executor fanOutExecutor) {
+        this.fanOutExecutor = fanOutExecutor;
+        return this;
+    }
+
+    public WeatherService build() {
+        return new WeatherService(restTemplate, cacheProperties, batchProperties, upstreamProperties, alertIngester,
+            fanOutExecutor);
+    }
+}
@@ -1,15 +1,13 @@
 package com.godaddy.examples.mcp.weather.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -18,18 +16,19 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
-@ExtendWith(MockitoExtension.class)
 @DisplayName("WeatherService Simple Tests")
 class WeatherServiceSimpleTest {
 
-    @Mock
-    private RestTemplate restTemplate;
+    private static final String POINTS_URL = "https://api.weather.gov/points/41.8781,-87.6298";
+    private static final String FORECAST_URL = "https://api.weather.gov/gridpoints/LOT/31,76/forecast";
+    private static final String ALERTS_URL = "https://api.weather.gov/alerts/active?point=41.8781,-87.6298";
 
-    @InjectMocks
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockRestServiceServer server;
     private WeatherService weatherService;
 
     private Map<String, Object> sampleNWSPointResponse;
@@ -38,6 +37,10 @@ class WeatherServiceSimpleTest {
 
     @BeforeEach
     void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        weatherService = WeatherServiceBuilder.using(restTemplate).build();
+
         // Sample NWS Points API response
         sampleNWSPointResponse = Map.of(
             "properties", Map.of(
@@ -89,20 +92,19 @@ class WeatherServiceSimpleTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSForecastResponse, HttpStatus.OK));
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
 
         // When
-        Map<String, Object> result = weatherService.getCurrentWeather(latitude, longitude);
+        CurrentWeather result = weatherService.getCurrentWeather(latitude, longitude);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result).containsEntry("name", "Tonight");
-        assertThat(result).containsEntry("temperature", "32°F");
-        assertThat(result).containsEntry("windSpeed", "5 mph");
-        assertThat(result).containsEntry("shortForecast", "Partly Cloudy");
-        assertThat(result).containsKey("location");
+        assertThat(result.name()).isEqualTo("Tonight");
+        assertThat(result.temperature()).isEqualTo("32°F");
+        assertThat(result.windSpeed()).isEqualTo("5 mph");
+        assertThat(result.shortForecast()).isEqualTo("Partly Cloudy");
+        assertThat(result.location()).isNotNull();
     }
 
     @Test
@@ -112,8 +114,7 @@ class WeatherServiceSimpleTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        respondWithoutBody(POINTS_URL);
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCurrentWeather(latitude, longitude))
@@ -132,19 +133,18 @@ class WeatherServiceSimpleTest {
         // Given
         String cityName = "Chicago";
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleGeocodingResponse, HttpStatus.OK));
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
 
         // When
-        Map<String, Object> result = weatherService.getCityCoordinates(cityName);
+        CityCoordinates result = weatherService.getCityCoordinates(cityName);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result).containsEntry("cityName", "Chicago");
-        assertThat(result).containsEntry("latitude", 41.8781);
-        assertThat(result).containsEntry("longitude", -87.6298);
-        assertThat(result).containsEntry("country", "United States");
-        assertThat(result).containsEntry("state", "Illinois");
+        assertThat(result.cityName()).isEqualTo("Chicago");
+        assertThat(result.latitude()).isEqualTo(41.8781);
+        assertThat(result.longitude()).isEqualTo(-87.6298);
+        assertThat(result.country()).isEqualTo("United States");
+        assertThat(result.state()).isEqualTo("Illinois");
     }
 
     @Test
@@ -154,8 +154,7 @@ class WeatherServiceSimpleTest {
         String cityName = "InvalidCity";
         Map<String, Object> emptyGeocodingResponse = Map.of("results", List.of());
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(emptyGeocodingResponse, HttpStatus.OK));
+        respond(geocodingUrl("InvalidCity"), emptyGeocodingResponse);
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCityCoordinates(cityName))
@@ -175,8 +174,9 @@ class WeatherServiceSimpleTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenThrow(new RestClientException("Network error"));
+        server.expect(requestTo(POINTS_URL)).andRespond(request -> {
+            throw new RestClientException("Network error");
+        });
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCurrentWeather(latitude, longitude))
@@ -210,14 +210,30 @@ class WeatherServiceSimpleTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        respondWithoutBody(ALERTS_URL);
 
         // When
-        List<Map<String, Object>> result = weatherService.getWeatherAlerts(latitude, longitude);
+        List<WeatherAlert> result = weatherService.getWeatherAlerts(latitude, longitude);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    private static String geocodingUrl(String cityName) {
+        return "https://geocoding-api.open-meteo.com/v1/search?name=" + cityName + "&count=1&language=en&format=json";
+    }
+
+    private void respond(String url, Object body) {
+        try {
+            server.expect(requestTo(url))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(body), MediaType.APPLICATION_JSON));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void respondWithoutBody(String url) {
+        server.expect(requestTo(url)).andRespond(withSuccess());
+    }
+}
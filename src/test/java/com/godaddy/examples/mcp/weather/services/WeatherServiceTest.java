@@ -1,36 +1,52 @@
 package com.godaddy.examples.mcp.weather.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.godaddy.examples.mcp.weather.config.WeatherCacheProperties;
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
 import com.godaddy.examples.mcp.weather.exceptions.WeatherServerException;
+import com.godaddy.examples.mcp.weather.http.RevalidatingFetcher.RevalidationStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
-@ExtendWith(MockitoExtension.class)
 @DisplayName("WeatherService Tests")
 class WeatherServiceTest {
 
-    @Mock
-    private RestTemplate restTemplate;
+    private static final String POINTS_URL = "https://api.weather.gov/points/41.8781,-87.6298";
+    private static final String FORECAST_URL = "https://api.weather.gov/gridpoints/LOT/31,76/forecast";
+    private static final String ALERTS_URL = "https://api.weather.gov/alerts/active?point=41.8781,-87.6298";
 
-    @InjectMocks
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockRestServiceServer server;
     private WeatherService weatherService;
 
     private Map<String, Object> sampleNWSPointResponse;
@@ -40,6 +56,10 @@ class WeatherServiceTest {
 
     @BeforeEach
     void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        weatherService = WeatherServiceBuilder.using(restTemplate).build();
+
         // Sample NWS Points API response
         sampleNWSPointResponse = Map.of(
             "properties", Map.of(
@@ -125,20 +145,19 @@ class WeatherServiceTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSForecastResponse, HttpStatus.OK));
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
 
         // When
-        Map<String, Object> result = weatherService.getCurrentWeather(latitude, longitude);
+        CurrentWeather result = weatherService.getCurrentWeather(latitude, longitude);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result).containsEntry("name", "Tonight");
-        assertThat(result).containsEntry("temperature", "32°F");
-        assertThat(result).containsEntry("windSpeed", "5 mph");
-        assertThat(result).containsEntry("shortForecast", "Partly Cloudy");
-        assertThat(result).containsKey("location");
+        assertThat(result.name()).isEqualTo("Tonight");
+        assertThat(result.temperature()).isEqualTo("32°F");
+        assertThat(result.windSpeed()).isEqualTo("5 mph");
+        assertThat(result.shortForecast()).isEqualTo("Partly Cloudy");
+        assertThat(result.location()).isNotNull();
     }
 
     @Test
@@ -148,8 +167,7 @@ class WeatherServiceTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        respondWithoutBody(POINTS_URL);
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCurrentWeather(latitude, longitude))
@@ -169,9 +187,8 @@ class WeatherServiceTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respondWithoutBody(FORECAST_URL);
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCurrentWeather(latitude, longitude))
@@ -194,9 +211,8 @@ class WeatherServiceTest {
             "properties", Map.of("periods", List.of())
         );
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(emptyForecastResponse, HttpStatus.OK));
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, emptyForecastResponse);
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCurrentWeather(latitude, longitude))
@@ -215,20 +231,110 @@ class WeatherServiceTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSForecastResponse, HttpStatus.OK));
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
 
         // When
-        List<Map<String, Object>> result = weatherService.getWeatherForecast(latitude, longitude);
+        List<WeatherPeriod> result = weatherService.getWeatherForecast(latitude, longitude);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
-        assertThat(result.get(0)).containsEntry("name", "Tonight");
-        assertThat(result.get(1)).containsEntry("name", "Tomorrow");
-        assertThat(result.get(0)).containsEntry("temperature", "32°F");
-        assertThat(result.get(1)).containsEntry("temperature", "45°F");
+        assertThat(result.get(0).name()).isEqualTo("Tonight");
+        assertThat(result.get(1).name()).isEqualTo("Tomorrow");
+        assertThat(result.get(0).temperature()).isEqualTo("32°F");
+        assertThat(result.get(1).temperature()).isEqualTo("45°F");
+    }
+
+    @Test
+    @DisplayName("Should revalidate a stale forecast and reuse the stored result on 304")
+    void getWeatherForecast_NotModified_ReusesStoredForecast() throws Exception {
+        // Given
+        double latitude = 41.8781;
+        double longitude = -87.6298;
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"forecast-v1\"");
+        validators.setCacheControl("max-age=0");
+        WeatherCacheProperties cacheProperties = new WeatherCacheProperties();
+        cacheProperties.getForecasts().setMinFresh(Duration.ZERO);
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        weatherService = WeatherServiceBuilder.using(restTemplate).cacheProperties(cacheProperties).build();
+        
+        respond(POINTS_URL, sampleNWSPointResponse);
+        server.expect(requestTo(FORECAST_URL))
+            .andRespond(withSuccess(objectMapper.writeValueAsString(sampleNWSForecastResponse), MediaType.APPLICATION_JSON)
+                .headers(validators));
+        server.expect(requestTo(FORECAST_URL))
+            .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"forecast-v1\""))
+            .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        // When
+        List<WeatherPeriod> first = weatherService.getWeatherForecast(latitude, longitude);
+        List<WeatherPeriod> second = weatherService.getWeatherForecast(latitude, longitude);
+
+        // Then
+        server.verify();
+        assertThat(second).isEqualTo(first);
+        RevalidationStats stats = weatherService.getRevalidationStats().get("forecasts");
+        assertThat(stats.notModified()).isEqualTo(1);
+        assertThat(stats.fullFetches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve the last forecast marked stale while NWS is failing")
+    void getCurrentWeather_ForecastUpstreamFailing_ServesStaleMarked() throws Exception {
+        // Given
+        double latitude = 41.8781;
+        double longitude = -87.6298;
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"forecast-v1\"");
+        validators.setCacheControl("max-age=0");
+        WeatherCacheProperties cacheProperties = new WeatherCacheProperties();
+        cacheProperties.getForecasts().setMinFresh(Duration.ZERO);
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        weatherService = WeatherServiceBuilder.using(restTemplate).cacheProperties(cacheProperties).build();
+
+        respond(POINTS_URL, sampleNWSPointResponse);
+        server.expect(requestTo(FORECAST_URL))
+            .andRespond(withSuccess(objectMapper.writeValueAsString(sampleNWSForecastResponse), MediaType.APPLICATION_JSON)
+                .headers(validators));
+        server.expect(requestTo(FORECAST_URL))
+            .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+
+        // When
+        CurrentWeather fresh = weatherService.getCurrentWeather(latitude, longitude);
+        CurrentWeather stale = weatherService.getCurrentWeather(latitude, longitude);
+
+        // Then
+        server.verify();
+        assertThat(fresh.stale()).isNull();
+        assertThat(stale.stale()).isTrue();
+        assertThat(stale.dataAgeSeconds()).isNotNull().isNotNegative();
+        assertThat(stale.dataAgeSeconds() % ForecastSnapshot.STALE_AGE_STEP_SECONDS).isZero();
+        assertThat(stale.temperature()).isEqualTo(fresh.temperature());
+        assertThat(weatherService.getRevalidationStats().get("forecasts").staleOnError()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer current weather from the forecast snapshot already loaded")
+    void getCurrentWeather_AfterForecast_ReusesForecastSnapshot() {
+        // Given
+        double latitude = 41.8781;
+        double longitude = -87.6298;
+        
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
+
+        // When
+        weatherService.getWeatherForecast(latitude, longitude);
+        CurrentWeather current = weatherService.getCurrentWeather(latitude, longitude);
+
+        // Then
+        server.verify();
+        assertThat(current.name()).isEqualTo("Tonight");
+        assertThat(weatherService.getRevalidationStats().get("forecasts").freshHits()).isEqualTo(1);
     }
 
     @Test
@@ -238,18 +344,17 @@ class WeatherServiceTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleNWSAlertsResponse, HttpStatus.OK));
+        respond(ALERTS_URL, sampleNWSAlertsResponse);
 
         // When
-        List<Map<String, Object>> result = weatherService.getWeatherAlerts(latitude, longitude);
+        List<WeatherAlert> result = weatherService.getWeatherAlerts(latitude, longitude);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
-        assertThat(result.get(0)).containsEntry("event", "Winter Storm Warning");
-        assertThat(result.get(0)).containsEntry("severity", "Severe");
-        assertThat(result.get(0)).containsEntry("urgency", "Expected");
+        assertThat(result.get(0).event()).isEqualTo("Winter Storm Warning");
+        assertThat(result.get(0).severity()).isEqualTo("Severe");
+        assertThat(result.get(0).urgency()).isEqualTo("Expected");
     }
 
     @Test
@@ -259,11 +364,10 @@ class WeatherServiceTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        respondWithoutBody(ALERTS_URL);
 
         // When
-        List<Map<String, Object>> result = weatherService.getWeatherAlerts(latitude, longitude);
+        List<WeatherAlert> result = weatherService.getWeatherAlerts(latitude, longitude);
 
         // Then
         assertThat(result).isNotNull();
@@ -277,18 +381,38 @@ class WeatherServiceTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK));
+        respond(POINTS_URL, sampleNWSPointResponse);
 
         // When
-        Map<String, Object> result = weatherService.getLocationInfo(latitude, longitude);
+        LocationInfo result = weatherService.getLocationInfo(latitude, longitude);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result).containsEntry("city", "Chicago");
-        assertThat(result).containsEntry("state", "IL");
-        assertThat(result).containsEntry("gridId", "LOT");
-        assertThat(result).containsEntry("timeZone", "America/Chicago");
+        assertThat(result.city()).isEqualTo("Chicago");
+        assertThat(result.state()).isEqualTo("IL");
+        assertThat(result.gridId()).isEqualTo("LOT");
+        assertThat(result.timeZone()).isEqualTo("America/Chicago");
+    }
+
+    @Test
+    @DisplayName("Should reuse cached grid point across coordinate tools")
+    void getLocationInfo_AfterCurrentWeather_UsesCachedGridPoint() {
+        // Given
+        double latitude = 41.8781;
+        double longitude = -87.6298;
+        
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
+
+        // When
+        weatherService.getCurrentWeather(latitude, longitude);
+        LocationInfo result = weatherService.getLocationInfo(latitude, longitude);
+
+        // Then
+        assertThat(result.gridId()).isEqualTo("LOT");
+        server.verify();
+        assertThat(weatherService.getCacheStats().get("gridPoints").hits()).isEqualTo(1);
+        assertThat(weatherService.getCacheStats().get("gridPoints").misses()).isEqualTo(1);
     }
 
     @Test
@@ -297,19 +421,18 @@ class WeatherServiceTest {
         // Given
         String cityName = "Chicago";
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleGeocodingResponse, HttpStatus.OK));
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
 
         // When
-        Map<String, Object> result = weatherService.getCityCoordinates(cityName);
+        CityCoordinates result = weatherService.getCityCoordinates(cityName);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result).containsEntry("cityName", "Chicago");
-        assertThat(result).containsEntry("latitude", 41.8781);
-        assertThat(result).containsEntry("longitude", -87.6298);
-        assertThat(result).containsEntry("country", "United States");
-        assertThat(result).containsEntry("state", "Illinois");
+        assertThat(result.cityName()).isEqualTo("Chicago");
+        assertThat(result.latitude()).isEqualTo(41.8781);
+        assertThat(result.longitude()).isEqualTo(-87.6298);
+        assertThat(result.country()).isEqualTo("United States");
+        assertThat(result.state()).isEqualTo("Illinois");
     }
 
     @Test
@@ -318,8 +441,7 @@ class WeatherServiceTest {
         // Given
         String cityName = "Chicago";
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
+        respondWithoutBody(geocodingUrl("Chicago"));
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCityCoordinates(cityName))
@@ -339,8 +461,7 @@ class WeatherServiceTest {
         String cityName = "InvalidCity";
         Map<String, Object> emptyGeocodingResponse = Map.of("results", List.of());
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(emptyGeocodingResponse, HttpStatus.OK));
+        respond(geocodingUrl("InvalidCity"), emptyGeocodingResponse);
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCityCoordinates(cityName))
@@ -353,26 +474,163 @@ class WeatherServiceTest {
             });
     }
 
+    @Test
+    @DisplayName("Should serve repeated city lookups from the geocoding cache")
+    void getCityCoordinates_RepeatedLookup_UsesNormalizedCacheKey() {
+        // Given
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+
+        // When
+        weatherService.getCityCoordinates("Chicago");
+        CityCoordinates result = weatherService.getCityCoordinates("  chicago ");
+
+        // Then
+        assertThat(result.cityName()).isEqualTo("Chicago");
+        server.verify();
+        assertThat(weatherService.getCacheStats().get("geocoding").hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should negatively cache unknown cities")
+    void getCityCoordinates_UnknownCityTwice_QueriesGeocoderOnce() {
+        // Given
+        Map<String, Object> emptyGeocodingResponse = Map.of("results", List.of());
+        
+        respond(geocodingUrl("InvalidCity"), emptyGeocodingResponse);
+
+        // When & Then
+        assertThatThrownBy(() -> weatherService.getCityCoordinates("InvalidCity"))
+            .hasMessageContaining("City not found: InvalidCity");
+        assertThatThrownBy(() -> weatherService.getCityCoordinates("invalidcity"))
+            .hasMessageContaining("City not found: invalidcity");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Should report the same forecast version while the snapshot is reused")
+    void getForecastValidity_RepeatedLookup_ReturnsSameVersion() {
+        // Given
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
+
+        // When
+        Optional<ForecastValidity> first = weatherService.getForecastValidity("Chicago");
+        Optional<ForecastValidity> second = weatherService.getForecastValidity("chicago");
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).isEqualTo(first);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Should report upstream freshness and Last-Modified with the forecast version")
+    void getForecastValidity_CacheableForecast_ReportsUpstreamValidity() throws JsonProcessingException {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=3600");
+        headers.set(HttpHeaders.LAST_MODIFIED, "Mon, 15 Jan 2024 12:00:00 GMT");
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        server.expect(requestTo(FORECAST_URL))
+            .andRespond(withSuccess(objectMapper.writeValueAsString(sampleNWSForecastResponse), MediaType.APPLICATION_JSON)
+                .headers(headers));
+
+        // When
+        Optional<ForecastValidity> validity = weatherService.getForecastValidity("Chicago");
+
+        // Then
+        assertThat(validity).isPresent();
+        assertThat(validity.get().lastModified()).isEqualTo("Mon, 15 Jan 2024 12:00:00 GMT");
+        assertThat(validity.get().freshUntil()).isAfter(Instant.now().plus(Duration.ofMinutes(59)));
+    }
+
+    @Test
+    @DisplayName("Should report the upstream freshness without the local min-fresh extension")
+    void getForecastValidity_ShortUpstreamLifetime_NotExtendedByMinFresh() throws JsonProcessingException {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl("max-age=60");
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        server.expect(requestTo(FORECAST_URL))
+            .andRespond(withSuccess(objectMapper.writeValueAsString(sampleNWSForecastResponse), MediaType.APPLICATION_JSON)
+                .headers(headers));
+
+        // When
+        Optional<ForecastValidity> validity = weatherService.getForecastValidity("Chicago");
+
+        // Then
+        assertThat(validity).isPresent();
+        assertThat(validity.get().freshUntil()).isBefore(Instant.now().plus(Duration.ofSeconds(61)));
+    }
+
+    @Test
+    @DisplayName("Should keep the forecast version while the forecast is served stale")
+    void getForecastValidity_ForecastServedStale_KeepsVersion() throws JsonProcessingException {
+        // Given
+        HttpHeaders validators = new HttpHeaders();
+        validators.setETag("\"forecast-v1\"");
+        validators.setCacheControl("max-age=0");
+        WeatherCacheProperties cacheProperties = new WeatherCacheProperties();
+        cacheProperties.getForecasts().setMinFresh(Duration.ZERO);
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        weatherService = WeatherServiceBuilder.using(restTemplate).cacheProperties(cacheProperties).build();
+
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        server.expect(requestTo(FORECAST_URL))
+            .andRespond(withSuccess(objectMapper.writeValueAsString(sampleNWSForecastResponse), MediaType.APPLICATION_JSON)
+                .headers(validators));
+        server.expect(ExpectedCount.twice(), requestTo(FORECAST_URL))
+            .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+
+        // When
+        ForecastValidity fresh = weatherService.getForecastValidity("Chicago").orElseThrow();
+        ForecastValidity firstStale = weatherService.getForecastValidity("Chicago").orElseThrow();
+        ForecastValidity secondStale = weatherService.getForecastValidity("Chicago").orElseThrow();
+
+        // Then
+        assertThat(fresh.staleAgeSeconds()).isNull();
+        assertThat(firstStale.version()).isEqualTo(fresh.version());
+        assertThat(firstStale.staleAgeSeconds()).isNotNull();
+        assertThat(secondStale).isEqualTo(firstStale);
+    }
+
+    @Test
+    @DisplayName("Should report no forecast version for an unknown city")
+    void getForecastValidity_UnknownCity_ReturnsEmpty() {
+        // Given
+        respond(geocodingUrl("InvalidCity"), Map.of("results", List.of()));
+
+        // When
+        Optional<ForecastValidity> version = weatherService.getForecastValidity("InvalidCity");
+
+        // Then
+        assertThat(version).isEmpty();
+    }
+
     @Test
     @DisplayName("Should get current weather by city successfully")
     void getCurrentWeatherByCity_ValidCity_ReturnsWeatherData() {
         // Given
         String cityName = "Chicago";
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleGeocodingResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSForecastResponse, HttpStatus.OK));
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
 
         // When
-        Map<String, Object> result = weatherService.getCurrentWeatherByCity(cityName);
+        CityWeather result = weatherService.getCurrentWeatherByCity(cityName);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result).containsEntry("cityName", "Chicago");
-        assertThat(result).containsEntry("name", "Tonight");
-        assertThat(result).containsEntry("temperature", "32°F");
-        assertThat(result).containsKey("coordinates");
+        assertThat(result.cityName()).isEqualTo("Chicago");
+        assertThat(result.weather().name()).isEqualTo("Tonight");
+        assertThat(result.weather().temperature()).isEqualTo("32°F");
+        assertThat(result.coordinates()).isNotNull();
     }
 
     @Test
@@ -381,19 +639,18 @@ class WeatherServiceTest {
         // Given
         String cityName = "Chicago";
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleGeocodingResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSForecastResponse, HttpStatus.OK));
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
 
         // When
-        List<Map<String, Object>> result = weatherService.getWeatherForecastByCity(cityName);
+        List<CityForecastPeriod> result = weatherService.getWeatherForecastByCity(cityName);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
-        assertThat(result.get(0)).containsEntry("cityName", "Chicago");
-        assertThat(result.get(1)).containsEntry("cityName", "Chicago");
+        assertThat(result.get(0).cityName()).isEqualTo("Chicago");
+        assertThat(result.get(1).cityName()).isEqualTo("Chicago");
     }
 
     @Test
@@ -402,18 +659,83 @@ class WeatherServiceTest {
         // Given
         String cityName = "Chicago";
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleGeocodingResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSAlertsResponse, HttpStatus.OK));
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(ALERTS_URL, sampleNWSAlertsResponse);
 
         // When
-        List<Map<String, Object>> result = weatherService.getWeatherAlertsByCity(cityName);
+        List<CityAlert> result = weatherService.getWeatherAlertsByCity(cityName);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
-        assertThat(result.get(0)).containsEntry("cityName", "Chicago");
-        assertThat(result.get(0)).containsEntry("event", "Winter Storm Warning");
+        assertThat(result.get(0).cityName()).isEqualTo("Chicago");
+        assertThat(result.get(0).alert().event()).isEqualTo("Winter Storm Warning");
+    }
+
+    @Test
+    @DisplayName("Should bundle current weather, forecast, alerts and location for a city")
+    void getCityWeatherBundle_ValidCity_ReturnsEverything() {
+        // Given
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(ALERTS_URL, sampleNWSAlertsResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
+
+        // When
+        CityWeatherBundle result = weatherService.getCityWeatherBundle("Chicago");
+
+        // Then
+        server.verify();
+        assertThat(result.cityName()).isEqualTo("Chicago");
+        assertThat(result.coordinates()).isEqualTo("41.8781, -87.6298");
+        assertThat(result.current().temperature()).isEqualTo("32°F");
+        assertThat(result.forecast()).hasSize(2);
+        assertThat(result.alerts()).hasSize(1);
+        assertThat(result.location().gridId()).isEqualTo("LOT");
+    }
+
+    @Test
+    @DisplayName("Should fetch alerts alongside the forecast on the fan-out executor")
+    void getCityWeatherBundle_FanOutExecutor_FetchesConcurrently() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
+        respond(ALERTS_URL, sampleNWSAlertsResponse);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            WeatherService concurrentService = WeatherServiceBuilder.using(restTemplate).fanOutExecutor(executor).build();
+
+            // When
+            CityWeatherBundle result = concurrentService.getCityWeatherBundle("Chicago");
+
+            // Then
+            server.verify();
+            assertThat(result.forecast()).hasSize(2);
+            assertThat(result.alerts()).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail the bundle with CITY_BUNDLE_ERROR when the forecast is unavailable")
+    void getCityWeatherBundle_NullForecastResponse_ThrowsException() {
+        // Given
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(ALERTS_URL, sampleNWSAlertsResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respondWithoutBody(FORECAST_URL);
+
+        // When & Then
+        assertThatThrownBy(() -> weatherService.getCityWeatherBundle("Chicago"))
+            .isInstanceOf(WeatherServerException.class)
+            .hasMessageContaining("Failed to fetch weather bundle for Chicago")
+            .satisfies(ex -> {
+                WeatherServerException wse = (WeatherServerException) ex;
+                assertThat(wse.getErrorCode()).isEqualTo("CITY_BUNDLE_ERROR");
+                assertThat(wse.getOperation()).isEqualTo("getCityWeatherBundle");
+            });
     }
 
     @Test
@@ -423,8 +745,9 @@ class WeatherServiceTest {
         double latitude = 41.8781;
         double longitude = -87.6298;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenThrow(new RestClientException("Network error"));
+        server.expect(requestTo(POINTS_URL)).andRespond(request -> {
+            throw new RestClientException("Network error");
+        });
 
         // When & Then
         assertThatThrownBy(() -> weatherService.getCurrentWeather(latitude, longitude))
@@ -452,22 +775,22 @@ class WeatherServiceTest {
     }
 
     @Test
-    @DisplayName("Should delegate getCurrentWeather correctly")
-    void getCurrentWeather_StringParameter_DelegatesCorrectly() {
+    @DisplayName("Should return a city's current weather with the version of the forecast it was taken from")
+    void getCurrentWeather_StringParameter_ReportsRenderedVersion() {
         // Given
         String cityName = "Chicago";
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleGeocodingResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSForecastResponse, HttpStatus.OK));
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
 
         // When
-        Map<String, Object> result = weatherService.getCurrentWeather(cityName);
+        ForecastResult<CityWeather> result = weatherService.getCurrentWeather(cityName);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).containsEntry("cityName", "Chicago");
+        assertThat(result.value().cityName()).isEqualTo("Chicago");
+        assertThat(result.validity().version())
+            .isEqualTo(weatherService.getForecastValidity(cityName).orElseThrow().version());
     }
 
     @Test
@@ -477,17 +800,164 @@ class WeatherServiceTest {
         String cityName = "Chicago";
         int days = 5;
         
-        when(restTemplate.getForEntity(anyString(), eq(Map.class)))
-            .thenReturn(new ResponseEntity<>(sampleGeocodingResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSPointResponse, HttpStatus.OK))
-            .thenReturn(new ResponseEntity<>(sampleNWSForecastResponse, HttpStatus.OK));
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
 
         // When
-        List<Map<String, Object>> result = weatherService.getWeatherForecast(cityName, days);
+        ForecastResult<List<CityForecastPeriod>> result = weatherService.getWeatherForecast(cityName, days);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0)).containsEntry("cityName", "Chicago");
+        assertThat(result.value()).hasSize(2);
+        assertThat(result.value().get(0).cityName()).isEqualTo("Chicago");
+        assertThat(result.validity()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a days argument outside 1 to 7 without calling upstream")
+    void getWeatherForecast_ZeroDays_ThrowsInvalidDays() {
+        // When & Then
+        assertThatThrownBy(() -> weatherService.getWeatherForecastByCity("Chicago", 0, null))
+            .isInstanceOf(WeatherServerException.class)
+            .satisfies(ex -> assertThat(((WeatherServerException) ex).getErrorCode()).isEqualTo("INVALID_DAYS"));
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Should fetch each grid once for a batch and report failing locations per item")
+    void getCurrentWeatherBatch_MixedLocations_DedupesAndIsolatesFailures() {
+        // Given
+        respond(geocodingUrl("Chicago"), sampleGeocodingResponse);
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(geocodingUrl("Atlantis"), Map.of("results", List.of()));
+        respond(FORECAST_URL, sampleNWSForecastResponse);
+        List<BatchLocation> locations = List.of(
+            BatchLocation.ofCity("Chicago"),
+            BatchLocation.ofCity(" chicago"),
+            BatchLocation.ofCoordinates(41.8781, -87.6298),
+            new BatchLocation(null, null, null),
+            BatchLocation.ofCity("Atlantis"));
+
+        // When
+        List<BatchResult<CurrentWeather>> results = weatherService.getCurrentWeatherBatch(locations);
+
+        // Then
+        server.verify();
+        assertThat(results).extracting(BatchResult::location).containsExactlyElementsOf(locations);
+        assertThat(results.subList(0, 3)).allSatisfy(result -> {
+            assertThat(result.error()).isNull();
+            assertThat(result.result().temperature()).isEqualTo("32°F");
+        });
+        assertThat(results.get(3).error().errorCode()).isEqualTo("INVALID_LOCATION");
+        assertThat(results.get(4).error().errorCode()).isEqualTo("CITY_NOT_FOUND");
+        assertThat(results.get(4).result()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should truncate and project every forecast of a batch")
+    void getWeatherForecastBatch_CompactOneDay_ProjectsEachResult() throws JsonProcessingException {
+        // Given
+        respond(POINTS_URL, sampleNWSPointResponse);
+        respond(FORECAST_URL, sampleNWSForecastResponse);
+
+        // When
+        List<BatchResult<List<?>>> results = weatherService.getWeatherForecastBatch(
+            List.of(BatchLocation.ofCoordinates(41.8781, -87.6298)), 1, "name");
+
+        // Then
+        assertThat(results).hasSize(1);
+        assertThat(objectMapper.writeValueAsString(results.get(0).result()))
+            .isEqualTo("[{\"name\":\"Tonight\"},{\"name\":\"Tomorrow\"}]");
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than the configured limit")
+    void getCurrentWeatherBatch_TooManyLocations_ThrowsInvalidBatch() {
+        // Given
+        List<BatchLocation> locations = Collections.nCopies(51, BatchLocation.ofCity("Chicago"));
+
+        // When & Then
+        assertThatThrownBy(() -> weatherService.getCurrentWeatherBatch(locations))
+            .isInstanceOf(WeatherServerException.class)
+            .satisfies(ex -> assertThat(((WeatherServerException) ex).getErrorCode()).isEqualTo("INVALID_BATCH"));
+    }
+
+    @Test
+    @DisplayName("Should send geocoding, points and alerts requests to the configured upstream base URLs")
+    void getWeatherAlertsByCity_ConfiguredBaseUrls_CallsConfiguredHosts() {
+        // Given
+        WeatherUpstreamProperties upstreamProperties = new WeatherUpstreamProperties();
+        upstreamProperties.setNwsBaseUrl("http://localhost:9090/nws/");
+        upstreamProperties.setGeocodingUrl("http://localhost:9090/geocoding/v1/search");
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        weatherService = WeatherServiceBuilder.using(restTemplate).upstreamProperties(upstreamProperties).build();
+        respond("http://localhost:9090/geocoding/v1/search?name=Chicago&count=1&language=en&format=json",
+            sampleGeocodingResponse);
+        respond("http://localhost:9090/nws/alerts/active?point=41.8781,-87.6298", sampleNWSAlertsResponse);
+
+        // When
+        List<CityAlert> alerts = weatherService.getWeatherAlertsByCity("Chicago");
+
+        // Then
+        assertThat(alerts).hasSize(1);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Should answer alerts from the ingested index without calling upstream")
+    void getWeatherAlerts_IndexCurrent_SkipsUpstream() {
+        // Given
+        AlertIngester alertIngester = mock(AlertIngester.class);
+        WeatherAlert alert = new WeatherAlert("Winter Storm Warning", "Winter Storm Warning issued for Chicago",
+            "Heavy snow expected...", "Severe", "Expected", "Chicago Metro Area",
+            "2023-01-15T12:00:00Z", "2023-01-16T06:00:00Z");
+        when(alertIngester.alertsAt(eq(41.8781), eq(-87.6298), any())).thenReturn(Optional.of(List.of(alert)));
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        weatherService = WeatherServiceBuilder.using(restTemplate).alertIngester(alertIngester).build();
+
+        // When
+        List<WeatherAlert> result = weatherService.getWeatherAlerts(41.8781, -87.6298);
+
+        // Then
+        assertThat(result).containsExactly(alert);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Should ask upstream for the point while the ingested index cannot answer")
+    void getWeatherAlerts_IndexNotReady_FallsBackToUpstream() {
+        // Given
+        AlertIngester alertIngester = mock(AlertIngester.class);
+        when(alertIngester.alertsAt(eq(41.8781), eq(-87.6298), any())).thenReturn(Optional.empty());
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        weatherService = WeatherServiceBuilder.using(restTemplate).alertIngester(alertIngester).build();
+        respond(ALERTS_URL, sampleNWSAlertsResponse);
+
+        // When
+        List<WeatherAlert> result = weatherService.getWeatherAlerts(41.8781, -87.6298);
+
+        // Then
+        assertThat(result).extracting(WeatherAlert::event).containsExactly("Winter Storm Warning");
+        server.verify();
+    }
+
+    private static String geocodingUrl(String cityName) {
+        return "https://geocoding-api.open-meteo.com/v1/search?name=" + cityName + "&count=1&language=en&format=json";
+    }
+
+    private void respond(String url, Object body) {
+        try {
+            server.expect(requestTo(url))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(body), MediaType.APPLICATION_JSON));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void respondWithoutBody(String url) {
+        server.expect(requestTo(url)).andRespond(withSuccess());
     }
-}
\ No newline at end of file
+}
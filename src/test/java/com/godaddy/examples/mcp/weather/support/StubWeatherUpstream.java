@@ -0,0 +1,200 @@
+package com.godaddy.examples.mcp.weather.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.godaddy.examples.mcp.weather.config.WeatherUpstreamProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Local stand-in for api.weather.gov and the Open-Meteo geocoder that serves the recorded payloads in
+ * {@code src/test/resources/payloads} after a fixed latency plus a uniformly random jitter.
+ * <p>
+ * Links in the recordings are rewritten to point back at the stub. Every city name geocodes to its own
+ * coordinate and every coordinate to its own grid, so distinct names and coordinates never share a cache
+ * entry or an in-flight call. {@link #injectErrors(double, int)} makes a share of responses fail with the
+ * given status, and can be changed while requests are running.
+ */
+public class StubWeatherUpstream implements AutoCloseable {
+
+    private static final String RECORDED_NWS_BASE_URL = "https://api.weather.gov";
+    private static final String RECORDED_GRID = "gridpoints/LOT/76,73";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration latency;
+    private final Duration jitter;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final String pointsPayload;
+    private final String forecastPayload;
+    private final String alertsPayload;
+    private final ObjectNode geocodingPayload;
+    private volatile double errorRate;
+    private volatile int errorStatus = 503;
+
+    public StubWeatherUpstream(Duration latency) throws IOException {
+        this(latency, Duration.ZERO);
+    }
+
+    public StubWeatherUpstream(Duration latency, Duration jitter) throws IOException {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        this.pointsPayload = linkedToStub(payload("nws-points.json"));
+        this.forecastPayload = linkedToStub(payload("nws-forecast.json"));
+        this.alertsPayload = linkedToStub(payload("nws-alerts.json"));
+        this.geocodingPayload = (ObjectNode) objectMapper.readTree(payload("open-meteo-geocoding.json"));
+        server.createContext("/points/", exchange -> respond(exchange, () -> pointsBody(exchange.getRequestURI())));
+        server.createContext("/gridpoints/", exchange -> respond(exchange, () -> forecastPayload));
+        server.createContext("/alerts/active", exchange -> respond(exchange, () -> alertsPayload));
+        server.createContext("/v1/search", exchange -> respond(exchange, () -> geocodingBody(exchange.getRequestURI())));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public URI baseUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    /**
+     * Upstream settings that send every NWS and geocoding call to this stub.
+     */
+    public WeatherUpstreamProperties upstreamProperties() {
+        WeatherUpstreamProperties properties = new WeatherUpstreamProperties();
+        properties.setNwsBaseUrl(baseUri().toString());
+        properties.setGeocodingUrl(baseUri() + "/v1/search");
+        return properties;
+    }
+
+    /**
+     * Answer {@code rate} of all requests, between 0 and 1, with {@code status} instead of a payload.
+     */
+    public void injectErrors(double rate, int status) {
+        this.errorStatus = status;
+        this.errorRate = rate;
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long injectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    /**
+     * Sends every outgoing request to this stub, keeping its path and query, so a {@code RestTemplate}
+     * built without {@link #upstreamProperties()} can run against it.
+     */
+    public ClientHttpRequestInterceptor redirectingInterceptor() {
+        return (request, body, execution) -> execution.execute(new HttpRequestWrapper(request) {
+            @Override
+            public URI getURI() {
+                return UriComponentsBuilder.fromUri(request.getURI())
+                    .scheme("http")
+                    .host(baseUri().getHost())
+                    .port(baseUri().getPort())
+                    .build(true)
+                    .toUri();
+            }
+        }, body);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void respond(HttpExchange exchange, Supplier<String> body) throws IOException {
+        requests.incrementAndGet();
+        try {
+            Thread.sleep(delay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            int status = errorStatus;
+            write(exchange, status, "application/problem+json",
+                "{\"status\":%d,\"title\":\"Injected failure\"}".formatted(status));
+            return;
+        }
+        write(exchange, 200, "application/json", body.get());
+    }
+
+    private Duration delay() {
+        if (jitter.isZero()) {
+            return latency;
+        }
+        return latency.plusNanos(ThreadLocalRandom.current().nextLong(jitter.toNanos() + 1));
+    }
+
+    private static void write(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String pointsBody(URI requestUri) {
+        String coordinate = requestUri.getPath().substring("/points/".length());
+        String grid = coordinate.replace(".", "").replace("-", "");
+        return pointsPayload.replace(RECORDED_GRID, "gridpoints/TST/" + grid);
+    }
+
+    /**
+     * The recorded top match, renamed to the requested city and moved to a coordinate derived from its name.
+     */
+    private String geocodingBody(URI requestUri) {
+        String name = UriComponentsBuilder.fromUri(requestUri).build().getQueryParams().getFirst("name");
+        String city = name == null ? "" : URLDecoder.decode(name, StandardCharsets.UTF_8);
+        int hash = city.hashCode() & Integer.MAX_VALUE;
+        ObjectNode body = geocodingPayload.deepCopy();
+        ObjectNode match = (ObjectNode) body.get("results").get(0);
+        match.put("name", city);
+        match.put("latitude", 30 + (hash % 15_000) / 1_000.0);
+        match.put("longitude", -120 + (hash / 15_000 % 40_000) / 1_000.0);
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String linkedToStub(String recorded) {
+        return recorded.replace(RECORDED_NWS_BASE_URL, baseUri().toString());
+    }
+
+    private static String payload(String name) throws IOException {
+        try (InputStream in = StubWeatherUpstream.class.getResourceAsStream("/payloads/" + name)) {
+            if (in == null) {
+                throw new IOException("Missing recorded payload " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}